@@ -25,9 +25,13 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.ApplicationsManagerStorage;
+import seedu.address.storage.BinarySnapshotCacheStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonApplicationsManagerStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SnapshotCacheStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -41,6 +45,10 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** Name of the journal file, which is kept next to the address book data file. */
+    public static final String JOURNAL_FILE_NAME = "journal.jsonl";
+    public static final String SNAPSHOT_CACHE_FILE_NAME = "snapshot.cache";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -60,10 +68,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isCompactDataFiles());
         ApplicationsManagerStorage applicationsManagerStorage = new JsonApplicationsManagerStorage(
-                userPrefs.getApplicationsManagerFilePath());
-        storage = new StorageManager(addressBookStorage, applicationsManagerStorage, userPrefsStorage);
+                userPrefs.getApplicationsManagerFilePath(), config.isCompactDataFiles());
+        JournalStorage journalStorage = new JsonJournalStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(JOURNAL_FILE_NAME));
+        SnapshotCacheStorage snapshotCacheStorage = new BinarySnapshotCacheStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(SNAPSHOT_CACHE_FILE_NAME));
+        storage = new StorageManager(addressBookStorage, applicationsManagerStorage, journalStorage,
+                snapshotCacheStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
@@ -78,16 +92,38 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if
      * {@code storage}'s address book is not found, or an empty address book will be
      * used instead if errors occur when reading {@code storage}'s address book.
+     * The data is read from the snapshot cache instead if the cache matches the data files.
+     * Changes journaled since the data files were last saved are replayed on top of the data read from them.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        try {
+            storage.completeInterruptedSave();
+        } catch (IOException e) {
+            logger.warning("Could not complete the save of the data files that was interrupted when the app last"
+                    + " stopped: " + StringUtil.getDetails(e));
+        }
+
+        try {
+            Optional<SnapshotCacheStorage.CachedData> cachedData = storage.readSnapshotCache();
+            if (cachedData.isPresent()) {
+                logger.info("Using snapshot cache of the data files.");
+                return replayJournal(storage, cachedData.get().addressBook(),
+                        cachedData.get().applicationsManager(), userPrefs);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Snapshot cache could not be loaded. Will be reading the data files instead.");
+        }
+
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialAddressBookData;
 
         Optional<ReadOnlyApplicationsManager> applicationsManagerOptional;
         ReadOnlyApplicationsManager initialApplicationsManagerData;
 
+        boolean isReadFromDataFiles = false;
+
         try {
             addressBookOptional = storage.readAddressBook();
             if (addressBookOptional.isEmpty()) {
@@ -99,13 +135,14 @@ public class MainApp extends Application {
                 initialAddressBookData = addressBookOptional.get();
                 // load applications manager
                 try {
-                    applicationsManagerOptional = storage.readApplicationsManager();
+                    applicationsManagerOptional = storage.readApplicationsManager(initialAddressBookData);
                     if (applicationsManagerOptional.isEmpty()) {
                         logger.info("Creating a new data file " + storage.getApplicationsManagerFilePath()
                                 + " populated with an empty ApplicationsManager.");
                         initialApplicationsManagerData = new ApplicationsManager();
                     } else {
                         initialApplicationsManagerData = applicationsManagerOptional.get();
+                        isReadFromDataFiles = true;
                     }
                 } catch (DataLoadingException e) {
                     logger.warning("Data file at " + storage.getApplicationsManagerFilePath() + " could not be loaded."
@@ -123,7 +160,27 @@ public class MainApp extends Application {
             initialApplicationsManagerData = SampleDataUtil.getSampleApplicationsManager();
         }
 
-        return new ModelManager(initialAddressBookData, initialApplicationsManagerData, userPrefs);
+        if (!isReadFromDataFiles) {
+            return new ModelManager(initialAddressBookData, initialApplicationsManagerData, userPrefs);
+        }
+        return replayJournal(storage, initialAddressBookData, initialApplicationsManagerData, userPrefs);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data read from the data files, {@code addressBook} and
+     * {@code applicationsManager}, and the changes journaled since the data files were last saved.
+     * The journaled changes are left out if they cannot be replayed.
+     */
+    private Model replayJournal(Storage storage, ReadOnlyAddressBook addressBook,
+            ReadOnlyApplicationsManager applicationsManager, ReadOnlyUserPrefs userPrefs) {
+        Model model = new ModelManager(addressBook, applicationsManager, userPrefs);
+        try {
+            storage.replayJournal(model);
+            return model;
+        } catch (DataLoadingException e) {
+            logger.warning("Journal file could not be replayed. Will be starting with the data in the data files.");
+            return new ModelManager(addressBook, applicationsManager, userPrefs);
+        }
     }
 
     private void initLogging(Config config) {
@@ -220,5 +277,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
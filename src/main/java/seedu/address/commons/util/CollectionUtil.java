@@ -2,9 +2,12 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +35,23 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an unmodifiable view of {@code items} that applies {@code mapper} to an element every time it is read,
+     * so that the mapped elements are never all held in memory at once.
+     */
+    public static <T, R> List<R> mappedView(List<T> items, Function<? super T, ? extends R> mapper) {
+        requireAllNonNull(items, mapper);
+        return new AbstractList<>() {
+            @Override
+            public R get(int index) {
+                return mapper.apply(items.get(index));
+            }
+
+            @Override
+            public int size() {
+                return items.size();
+            }
+        };
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical immutable values, each created from a string. Interning a string returns the value already
+ * created from an equal string while that value is still in use anywhere, so that equal values share one instance.
+ * The pool only holds its values weakly, so values that are no longer in use are garbage collected as usual.
+ *
+ * @param <T> The type of the values.
+ */
+public class Interner<T> {
+    // Each value is keyed by its own string, so an entry is kept exactly as long as its value is reachable.
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> factory;
+    private final Function<T, String> keyOf;
+
+    /**
+     * Creates an empty pool of values created by {@code factory}, where {@code keyOf} returns the string that a
+     * value was created from.
+     */
+    public Interner(Function<String, T> factory, Function<T, String> keyOf) {
+        requireNonNull(factory);
+        requireNonNull(keyOf);
+        this.factory = factory;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the canonical value created from {@code string}, creating it if there is none.
+     * Any exception thrown when creating the value is passed on, and nothing is added to the pool.
+     */
+    public synchronized T intern(String string) {
+        requireNonNull(string);
+        WeakReference<T> reference = pool.get(string);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(string);
+            pool.put(keyOf.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of strings in the pool, including those whose values are about to be garbage collected.
+     */
+    synchronized int size() {
+        return pool.size();
+    }
+}
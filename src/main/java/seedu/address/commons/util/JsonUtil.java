@@ -3,18 +3,25 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -41,8 +48,35 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class))
                     .addDeserializer(ObservableList.class, new ObservableListDeserializer()));
 
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, prettyWriter);
+    }
+
+    /**
+     * Streams {@code objectToSerialize} through {@code writer} into a temporary file, which then replaces
+     * {@code jsonFile}. The JSON is never held in memory as a whole, and a failed save leaves {@code jsonFile} as it
+     * was.
+     */
+    private static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, ObjectWriter writer)
+            throws IOException {
+        Path tempFile = FileUtil.getTempFilePath(jsonFile);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // The generator buffers its output, and leaves the channel open so that it can be forced to the disk.
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(Channels.newOutputStream(channel), JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                writer.writeValue(generator, objectToSerialize);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        FileUtil.replaceFile(tempFile, jsonFile);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -93,6 +127,31 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but writes the JSON all on one line if {@code isCompact} is
+     * true, which makes the file smaller and faster to write but harder to edit by hand.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact ? compactWriter : prettyWriter);
+    }
+
+
+    /**
+     * Returns a parser that reads the JSON file at {@code filePath} one token at a time, without reading the file
+     * into memory as a whole. Values read from the parser are bound with the same settings as
+     * {@link #readJsonFile(Path, Class)} uses.
+     * The caller is responsible for closing the parser, which closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,7 +169,17 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, all on one line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
     }
 
     /**
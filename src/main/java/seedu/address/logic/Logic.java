@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -12,8 +14,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model.ViewState;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.skill.SkillMatch;
 
 /**
  * API of the Logic component
@@ -28,6 +32,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the changes made by past commands that are not saved yet, and waits until they are.
+     * No commands may be executed afterwards.
+     *
+     * @throws IOException if saving any of the changes failed.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -50,12 +62,30 @@ public interface Logic {
     /** Returns filtered list of applications for a job that match current application filters */
     List<Application> getFilteredApplicationsByJob(Job job);
 
+    /** Returns the number of applications for a job in each round that match current application filters */
+    RoundCounts getFilteredRoundCounts(Job job);
+
+    /** Returns the number of applications for the filtered jobs in each round that match current application filters */
+    RoundCounts getFilteredRoundCounts();
+
+    /** Returns the number of distinct applicants to the filtered jobs that match current application filters */
+    int getFilteredApplicantCount();
+
+    /**
+     * Returns the number of distinct applicants to the filtered jobs from each school that match current application
+     * filters, in descending order of count
+     */
+    Map<String, Integer> getFilteredApplicantCountsBySchool();
+
     /** Returns filtered list of applications for a person */
     List<Application> getApplicationsByPerson(Person person);
 
     /** Returns filtered list of applications for a person that match current application filters */
     List<Application> getFilteredApplicationsByPerson(Person person);
 
+    /** Returns the (at most) {@code limit} jobs that best match the skills of a person, best first */
+    List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit);
+
     /**
      * Updates the filter of the filtered application list to filter by the given
      * {@code predicate}.
@@ -4,6 +4,10 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -18,8 +22,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.skill.SkillMatch;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,18 +40,33 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the model are saved to the storage on a background thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Executors.newSingleThreadExecutor(LogicManager::newSaverThread));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes to the model by running tasks on {@code saveExecutor}.
+     */
+    LogicManager(Model model, Storage storage, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new WriteBehindSaver(model, storage, saveExecutor);
         addressBookParser = new AddressBookParser();
     }
 
+    private static Thread newSaverThread(Runnable task) {
+        Thread thread = new Thread(task, "data-saver");
+        // Pending changes are saved by flush() when the app stops, so the thread does not keep the app running.
+        thread.setDaemon(true);
+        return thread;
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
@@ -55,18 +76,33 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveApplicationsManager(model.getApplicationsManager());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (!command.isReadOnly()) {
+            saver.save(model.takeMutations());
+        }
+
+        // Changes are saved in the background, so a failure to save them is reported by the command that follows.
+        // The command itself succeeded, so the failure is reported alongside its result instead of in its place.
+        Optional<IOException> saveFailure = saver.takeFailure();
+        if (saveFailure.isPresent()) {
+            return commandResult.withAdditionalFeedback(getSaveFailureMessage(saveFailure.get()));
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flush() throws IOException {
+        saver.save(model.takeMutations());
+        saver.flush();
+    }
+
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public void setViewState(Model.ViewState viewState) {
         model.setViewState(viewState);
@@ -97,6 +133,26 @@ public class LogicManager implements Logic {
         return model.getFilteredApplicationsByJob(job);
     }
 
+    @Override
+    public RoundCounts getFilteredRoundCounts(Job job) {
+        return model.getFilteredRoundCounts(job);
+    }
+
+    @Override
+    public RoundCounts getFilteredRoundCounts() {
+        return model.getFilteredRoundCounts();
+    }
+
+    @Override
+    public int getFilteredApplicantCount() {
+        return model.getFilteredApplicantCount();
+    }
+
+    @Override
+    public Map<String, Integer> getFilteredApplicantCountsBySchool() {
+        return model.getFilteredApplicantCountsBySchool();
+    }
+
     @Override
     public List<Application> getApplicationsByPerson(Person person) {
         return model.getApplicationsByPerson(person);
@@ -107,6 +163,11 @@ public class LogicManager implements Logic {
         return model.getFilteredApplicationsByPerson(person);
     }
 
+    @Override
+    public List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit) {
+        return model.getRecommendedJobs(person, limit);
+    }
+
     @Override
     public void updateFilteredApplicationList(Predicate<Application> predicate) {
         model.updateFilteredApplicationList(predicate);
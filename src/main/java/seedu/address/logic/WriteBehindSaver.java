@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Mutation;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the mutations made to a model to {@code Storage} in the background, so that a command does not wait for its
+ * changes to be written. Mutations handed over while a write is in progress are saved together in one write once it
+ * completes. A failed write is remembered until it is taken with {@link #takeFailure()}.
+ * <p>
+ * The data that is saved as a whole is read from a copy of the model that only the writes touch, to which the
+ * mutations are applied as they are saved, so that the model itself is never read by a write. The copy shares the
+ * persons, jobs and applications with the model, as they are immutable, so it costs a second set of the lists and
+ * lookups that hold them rather than a second copy of the data.
+ * <p>
+ * If a write fails, its mutations are still applied to the copy, and the next write saves the copy as a whole.
+ */
+class WriteBehindSaver {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+    private final Model savedModel;
+
+    // The mutations handed over but not taken by a write yet.
+    private List<Mutation> pendingMutations = new ArrayList<>();
+    // Whether a write is queued or in progress, which takes any pending mutations before it completes.
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes on {@code executor} to {@code storage}, which holds the data of
+     * {@code model} as it is now.
+     */
+    WriteBehindSaver(Model model, Storage storage, Executor executor) {
+        requireNonNull(model);
+        this.storage = requireNonNull(storage);
+        this.executor = requireNonNull(executor);
+        this.savedModel = new ModelManager(model.getAddressBook(), model.getApplicationsManager(), new UserPrefs());
+    }
+
+    /**
+     * Hands over {@code mutations}, made to the model after those handed over before, to be saved in the background.
+     */
+    void save(List<Mutation> mutations) {
+        requireNonNull(mutations);
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            pendingMutations.addAll(mutations);
+            if (isWriting) {
+                return;
+            }
+            isWriting = true;
+        }
+        executor.execute(this::writePendingMutations);
+    }
+
+    /**
+     * Returns the failure of a write that completed since the last call, if any.
+     * If several writes failed, the last failure is returned.
+     */
+    synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> takenFailure = Optional.ofNullable(failure);
+        failure = null;
+        return takenFailure;
+    }
+
+    /**
+     * Waits until every mutation handed over has been written, then saves the data as a whole if the journal holds
+     * any mutations. No mutations may be handed over afterwards.
+     *
+     * @throws IOException if a write since the last {@link #takeFailure()} or saving the data failed.
+     */
+    void flush() throws IOException {
+        Optional<IOException> pastFailure;
+        synchronized (this) {
+            while (isWriting) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the data to be saved", e);
+                }
+            }
+            pastFailure = takeFailure();
+        }
+
+        storage.compactJournal(savedModel.getAddressBook(), savedModel.getApplicationsManager());
+        if (pastFailure.isPresent()) {
+            throw pastFailure.get();
+        }
+    }
+
+    /**
+     * Writes the pending mutations, including any handed over while doing so, until none are left.
+     */
+    private void writePendingMutations() {
+        while (true) {
+            List<Mutation> mutations;
+            synchronized (this) {
+                if (pendingMutations.isEmpty()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                mutations = pendingMutations;
+                pendingMutations = new ArrayList<>();
+            }
+
+            try {
+                mutations.forEach(mutation -> mutation.applyTo(savedModel));
+                savedModel.takeMutations();
+                storage.saveMutations(mutations, savedModel.getAddressBook(), savedModel.getApplicationsManager());
+            } catch (IOException e) {
+                recordFailure(mutations, e);
+            } catch (RuntimeException e) {
+                // Failing to apply the mutations would otherwise stop the writes for good, and leave flush() waiting.
+                recordFailure(mutations, new IOException(e.getMessage(), e));
+            }
+        }
+    }
+
+    private synchronized void recordFailure(List<Mutation> mutations, IOException e) {
+        logger.warning("Could not save " + mutations.size() + " changes to the data: " + e);
+        // The journal does not hold these mutations, so mutations appended to it later could not be replayed.
+        storage.discardJournal();
+        failure = e;
+    }
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the persons, jobs or applications in the model, so that there is
+     * nothing to save after executing it. Changes to what is displayed, such as filters and views, do not count.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -173,6 +173,17 @@ public class CommandResult {
         );
     }
 
+    /**
+     * Returns a copy of this command result whose feedback is followed by {@code additionalFeedback} on a new line.
+     */
+    public CommandResult withAdditionalFeedback(String additionalFeedback) {
+        return new CommandResult(
+            feedbackToUser + "\n" + additionalFeedback, showHelp, exit, toggleView,
+            viewJob, viewPerson, clearView, refreshJobView,
+            jobIndex, personIndex, refreshApplications
+        );
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
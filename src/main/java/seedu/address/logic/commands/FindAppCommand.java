@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPLICATION_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_INDEX;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
@@ -57,6 +60,11 @@ public class FindAppCommand extends Command {
         this.jobIndex = Optional.of(jobIndex);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -92,25 +100,17 @@ public class FindAppCommand extends Command {
             // Update the job list to only show this job
             model.updateFilteredJobList(job -> job.equals(jobToFilter));
 
-            // Get all applications for this job
-            List<Application> jobApplications = model.getApplicationsByJob(jobToFilter);
-
-            // Filter these applications by the status predicate
-            List<Application> filteredJobApps = jobApplications.stream()
-                    .filter(statusPredicate::test)
-                    .toList();
+            // Get the applications for this job with the status straight from the (job, status) index
+            Set<Application> filteredJobApps = new HashSet<>(model.getApplicationsByJobAndStatus(jobToFilter, status));
 
             // Update application list to show only these filtered applications
             model.updateFilteredApplicationList(filteredJobApps::contains);
         } else {
             // No job index specified, filter all applications by status first
-            // Get the jobs that have applications with the specified status
-            List<Job> jobsWithMatchingApplications = model.getFilteredJobList().stream()
-                    .filter(job -> {
-                        List<Application> jobApps = model.getApplicationsByJob(job);
-                        return jobApps.stream().anyMatch(statusPredicate);
-                    })
-                    .toList();
+            // Get the jobs that have applications with the specified status, in one pass over those applications
+            Set<Job> jobsWithMatchingApplications = model.getApplicationsByStatus(status).stream()
+                    .map(Application::getJob)
+                    .collect(Collectors.toCollection(HashSet::new));
 
             // Update job list to show only jobs with matching applications
             model.updateFilteredJobList(jobsWithMatchingApplications::contains);
@@ -1,16 +1,22 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEGREE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_SOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.PersonSearchPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the
- * argument keywords.
+ * Finds and lists all persons in address book whose profile, or the given fields
+ * of it, contains any of the argument keywords.
  * Keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -19,19 +25,30 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose profile contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Keywords can be limited to a field with its prefix. Persons must then match a keyword in every "
+            + "field given. Names given with " + PREFIX_NAME_SOUND + " match names that sound alike.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or [" + PREFIX_NAME + "NAME_KEYWORDS] [" + PREFIX_NAME_SOUND
+            + "NAME_KEYWORDS] [" + PREFIX_EMAIL + "EMAIL] [" + PREFIX_SCHOOL + "SCHOOL_KEYWORDS] [" + PREFIX_DEGREE
+            + "DEGREE_KEYWORDS] [" + PREFIX_SKILL + "SKILL]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SCHOOL + "NUS " + PREFIX_SKILL + "java\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME_SOUND + "jon smyth";
 
     public static final String MESSAGE_NO_PERSONS_FOUND = "No persons found with the specified keywords."
             + " Use the list command to see all persons!";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonSearchPredicate predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(PersonSearchPredicate predicate) {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -41,7 +58,7 @@ public class FindCommand extends Command {
             throw new CommandException(Messages.MESSAGE_NOT_IN_PERSON_VIEW);
         }
 
-        model.updateFilteredPersonList(this.predicate);
+        model.updateFilteredPersonList(model.getPersonSearchPredicate(this.predicate.getKeywordsByField()));
 
         int filteredListSize = model.getFilteredPersonList().size();
 
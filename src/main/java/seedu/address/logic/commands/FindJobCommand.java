@@ -31,6 +31,11 @@ public class FindJobCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -40,7 +45,7 @@ public class FindJobCommand extends Command {
             throw new CommandException(Messages.MESSAGE_NOT_IN_JOB_VIEW);
         }
 
-        model.updateFilteredJobList(predicate);
+        model.updateFilteredJobList(model.getJobKeywordPredicate(predicate.getKeywords()));
 
         // Clear the detail view if we don't find any results
         if (model.getFilteredJobList().isEmpty()) {
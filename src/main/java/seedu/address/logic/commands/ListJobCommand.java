@@ -15,6 +15,11 @@ public class ListJobCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all jobs";
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
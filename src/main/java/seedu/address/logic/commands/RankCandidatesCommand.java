@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.SkillMatch;
+import seedu.address.model.skill.SkillMatchRanker;
+
+/**
+ * Shortlists the persons whose skills best match the requisite skills of a job, and lists them in the person view.
+ */
+public class RankCandidatesCommand extends Command {
+
+    public static final String COMMAND_WORD = "rank";
+
+    public static final int DEFAULT_SHORTLIST_SIZE = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shortlists the persons whose skills best match "
+            + "the skills required by the job at the specified index, ranked from best to worst.\n"
+            + "Parameters: JOB_INDEX (must be a positive integer) [SHORTLIST_SIZE] (default: "
+            + DEFAULT_SHORTLIST_SIZE + ")\n"
+            + "Example: " + COMMAND_WORD + " 1 10";
+
+    public static final String MESSAGE_JOB_WITHOUT_SKILLS = "%1$s does not require any skills to rank by.";
+    public static final String MESSAGE_NO_CANDIDATES = "No persons have any of the skills required by %1$s.";
+    public static final String MESSAGE_CANDIDATES_RANKED = "Top %1$d candidate(s) for %2$s:";
+    public static final String MESSAGE_CANDIDATE = "%1$d. %2$s (%3$d/%4$d skills matched)";
+
+    private final Index targetIndex;
+    private final int shortlistSize;
+
+    /**
+     * Creates a {@code RankCandidatesCommand} to shortlist at most {@code shortlistSize} persons for the job at
+     * {@code targetIndex}.
+     */
+    public RankCandidatesCommand(Index targetIndex, int shortlistSize) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+        this.shortlistSize = shortlistSize;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Check that we're in job view
+        if (!model.isInJobView()) {
+            throw new CommandException(Messages.MESSAGE_NOT_IN_JOB_VIEW);
+        }
+
+        List<Job> lastShownList = model.getFilteredJobList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
+        }
+
+        Job job = lastShownList.get(targetIndex.getZeroBased());
+        String jobTitle = job.getJobTitle().toString();
+        if (job.getSkillSet().isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_JOB_WITHOUT_SKILLS, jobTitle));
+        }
+
+        List<SkillMatch<Person>> shortlist = SkillMatchRanker.rank(List.copyOf(model.getFilteredPersonList()),
+                Person::getSkillSet, job.getSkillSet(), shortlistSize);
+        if (shortlist.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_CANDIDATES, jobTitle));
+        }
+
+        Set<Person> shortlistedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        shortlist.forEach(match -> shortlistedPersons.add(match.item()));
+        model.updateFilteredPersonList(shortlistedPersons::contains);
+        model.toggleJobView();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_CANDIDATES_RANKED, shortlist.size(),
+                jobTitle));
+        for (int i = 0; i < shortlist.size(); i++) {
+            SkillMatch<Person> match = shortlist.get(i);
+            feedback.append('\n').append(String.format(MESSAGE_CANDIDATE, i + 1, match.item().getName(),
+                    match.matchedSkills(), match.matchedSkills() + match.missingSkills()));
+        }
+        return CommandResult.withToggleView(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RankCandidatesCommand otherRankCandidatesCommand)) {
+            return false;
+        }
+        return targetIndex.equals(otherRankCandidatesCommand.targetIndex)
+                && shortlistSize == otherRankCandidatesCommand.shortlistSize;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("shortlistSize", shortlistSize)
+                .toString();
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.SkillMatch;
+
+/**
+ * Lists the jobs whose required skills best match the skills of a person in the job view.
+ */
+public class RecommendJobsCommand extends Command {
+
+    public static final String COMMAND_WORD = "recommend";
+
+    public static final int DEFAULT_RECOMMENDATION_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the jobs whose required skills best match "
+            + "the skills of the person at the specified index, ranked from best to worst.\n"
+            + "Parameters: PERSON_INDEX (must be a positive integer) [COUNT] (default: "
+            + DEFAULT_RECOMMENDATION_COUNT + ")\n"
+            + "Example: " + COMMAND_WORD + " 1 5";
+
+    public static final String MESSAGE_PERSON_WITHOUT_SKILLS = "%1$s does not have any skills to match jobs by.";
+    public static final String MESSAGE_NO_JOBS = "No jobs require any of the skills of %1$s.";
+    public static final String MESSAGE_JOBS_RECOMMENDED = "Top %1$d job(s) for %2$s:";
+    public static final String MESSAGE_JOB = "%1$d. %2$s (%3$d/%4$d skills matched, %5$d missing)";
+
+    private final Index targetIndex;
+    private final int count;
+
+    /**
+     * Creates a {@code RecommendJobsCommand} to list at most {@code count} jobs for the person at
+     * {@code targetIndex}.
+     */
+    public RecommendJobsCommand(Index targetIndex, int count) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+        this.count = count;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Check that we're in person view
+        if (model.isInJobView()) {
+            throw new CommandException(Messages.MESSAGE_NOT_IN_PERSON_VIEW);
+        }
+
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person person = lastShownList.get(targetIndex.getZeroBased());
+        String name = person.getName().toString();
+        if (person.getSkillSet().isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_PERSON_WITHOUT_SKILLS, name));
+        }
+
+        List<SkillMatch<Job>> recommendations = model.getRecommendedJobs(person, count);
+        if (recommendations.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_JOBS, name));
+        }
+
+        Set<Job> recommendedJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+        recommendations.forEach(match -> recommendedJobs.add(match.item()));
+        model.updateFilteredJobList(recommendedJobs::contains);
+        model.toggleJobView();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_JOBS_RECOMMENDED, recommendations.size(),
+                name));
+        for (int i = 0; i < recommendations.size(); i++) {
+            SkillMatch<Job> match = recommendations.get(i);
+            feedback.append('\n').append(String.format(MESSAGE_JOB, i + 1, match.item().getJobTitle(),
+                    match.matchedSkills(), match.matchedSkills() + match.missingSkills(), match.missingSkills()));
+        }
+        return CommandResult.withToggleView(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RecommendJobsCommand otherRecommendJobsCommand)) {
+            return false;
+        }
+        return targetIndex.equals(otherRecommendJobsCommand.targetIndex)
+                && count == otherRecommendJobsCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("count", count)
+                .toString();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_METRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.stats.ApplicationRecord;
+import seedu.address.model.stats.StatsQuery;
+import seedu.address.model.stats.StatsTable;
+
+/**
+ * Groups all applications by some fields of their applicants and jobs, and shows some metrics for each group.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final int MAX_ROWS_SHOWN = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Groups all applications by the given dimensions "
+            + "and shows the given metrics for each group, counting only applications to jobs requiring all the "
+            + "given skills.\n"
+            + "Parameters: " + PREFIX_GROUP + "DIMENSION [" + PREFIX_GROUP + "DIMENSION]... "
+            + "[" + PREFIX_METRIC + "METRIC]... [" + PREFIX_SKILL + "JOB_SKILL]...\n"
+            + "Dimensions: school, degree, skill, job, round. Metrics: count (default), persons, avground.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + "degree " + PREFIX_GROUP + "round "
+            + PREFIX_METRIC + "count " + PREFIX_METRIC + "persons " + PREFIX_SKILL + "java";
+
+    public static final String MESSAGE_NO_GROUPS = "No applications to compute statistics for.";
+    public static final String MESSAGE_SUCCESS = "Statistics of %1$d group(s):";
+    public static final String MESSAGE_MORE_GROUPS = "... and %1$d more group(s)";
+
+    private static final String CELL_SEPARATOR = " | ";
+
+    private final StatsQuery query;
+
+    /**
+     * Creates a {@code StatsCommand} to show the table of {@code query} over all applications.
+     */
+    public StatsCommand(StatsQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // Group a snapshot, so that the statistics are consistent even if the applications change meanwhile
+        List<ApplicationRecord> snapshot = ApplicationRecord.snapshotOf(
+                List.copyOf(model.getApplicationsManager().getApplicationList()));
+        StatsTable table = query.evaluate(snapshot);
+        if (table.rows().isEmpty()) {
+            return CommandResult.withFeedback(MESSAGE_NO_GROUPS);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, table.rows().size()));
+        feedback.append('\n').append(String.join(CELL_SEPARATOR, table.header()));
+        table.rows().stream()
+                .limit(MAX_ROWS_SHOWN)
+                .forEach(row -> feedback.append('\n').append(String.join(CELL_SEPARATOR, row)));
+        if (table.rows().size() > MAX_ROWS_SHOWN) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_GROUPS, table.rows().size() - MAX_ROWS_SHOWN));
+        }
+        return CommandResult.withFeedback(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand otherStatsCommand)) {
+            return false;
+        }
+        return query.equals(otherStatsCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -8,6 +8,11 @@ import seedu.address.model.Model;
 public class SwitchViewCommand extends Command {
     public static final String COMMAND_WORD = "switch";
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         // Toggle the model's view state
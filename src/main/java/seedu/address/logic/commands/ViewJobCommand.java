@@ -30,6 +30,11 @@ public class ViewJobCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -48,6 +48,11 @@ public class ViewPersonCommand extends Command {
         this.applicationIndex = applicationIndex;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
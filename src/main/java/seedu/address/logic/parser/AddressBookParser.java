@@ -26,6 +26,9 @@ import seedu.address.logic.commands.FindJobCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListJobCommand;
+import seedu.address.logic.commands.RankCandidatesCommand;
+import seedu.address.logic.commands.RecommendJobsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SwitchViewCommand;
 import seedu.address.logic.commands.ViewJobCommand;
 import seedu.address.logic.commands.ViewPersonCommand;
@@ -84,6 +87,9 @@ public class AddressBookParser {
         case ViewJobCommand.COMMAND_WORD -> new ViewJobCommandParser().parse(arguments);
         case ViewPersonCommand.COMMAND_WORD -> new ViewPersonCommandParser().parse(arguments);
         case FindAppCommand.COMMAND_WORD -> new FindAppCommandParser().parse(arguments);
+        case RankCandidatesCommand.COMMAND_WORD -> new RankCandidatesCommandParser().parse(arguments);
+        case RecommendJobsCommand.COMMAND_WORD -> new RecommendJobsCommandParser().parse(arguments);
+        case StatsCommand.COMMAND_WORD -> new StatsCommandParser().parse(arguments);
         default -> {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -12,6 +12,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_SKILL = new Prefix("k/"); // k for "knowledge" or "know-how".
     public static final Prefix PREFIX_SCHOOL = new Prefix("s/");
     public static final Prefix PREFIX_DEGREE = new Prefix("d/");
+    public static final Prefix PREFIX_NAME_SOUND = new Prefix("h/"); // h for "heard as", i.e. a name spelt by ear.
     // Job-specific Prefixes below, all being a double character starting with 'j' each.
     public static final Prefix PREFIX_JOB_TITLE = new Prefix("jt/");
     public static final Prefix PREFIX_JOB_ROUNDS = new Prefix("jr/");
@@ -21,4 +22,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_JOB_INDEX = new Prefix("ij/");
     public static final Prefix PREFIX_PERSON_INDEX = new Prefix("ip/");
     public static final Prefix PREFIX_APPLICATION_INDEX = new Prefix("ia/");
+    // Statistics-specific Prefixes below, all being a single character each.
+    public static final Prefix PREFIX_GROUP = new Prefix("g/");
+    public static final Prefix PREFIX_METRIC = new Prefix("m/");
 }
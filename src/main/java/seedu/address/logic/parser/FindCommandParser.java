@@ -1,18 +1,42 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEGREE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_SOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonFieldsContainKeywordsPredicate;
+import seedu.address.model.search.PersonField;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Map<Prefix, PersonField> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME, PersonField.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_NAME_SOUND, PersonField.NAME_SOUND);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL, PersonField.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_SCHOOL, PersonField.SCHOOL);
+        FIELDS_BY_PREFIX.put(PREFIX_DEGREE, PersonField.DEGREE);
+        FIELDS_BY_PREFIX.put(PREFIX_SKILL, PersonField.SKILL);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -25,9 +49,38 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                FIELDS_BY_PREFIX.keySet().toArray(Prefix[]::new));
+        if (FIELDS_BY_PREFIX.keySet().stream().noneMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        Map<PersonField, List<String>> keywordsByField = new EnumMap<>(PersonField.class);
+        for (Map.Entry<Prefix, PersonField> entry : FIELDS_BY_PREFIX.entrySet()) {
+            List<String> values = argMultimap.getAllValues(entry.getKey());
+            if (values.isEmpty()) {
+                continue;
+            }
+
+            List<String> keywords = new ArrayList<>();
+            for (String value : values) {
+                List<String> valueKeywords = entry.getValue().keywordsOf(value);
+                if (valueKeywords.isEmpty()) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
+                keywords.addAll(valueKeywords);
+            }
+            keywordsByField.put(entry.getValue(), keywords);
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new PersonFieldsContainKeywordsPredicate(keywordsByField));
     }
 
 }
@@ -20,6 +20,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.School;
 import seedu.address.model.skill.Skill;
+import seedu.address.model.util.CanonicalValues;
 
 /**
  * Contains utility methods used for parsing strings in the various Parser
@@ -102,7 +103,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return CanonicalValues.address(trimmedAddress);
     }
 
     /**
@@ -116,7 +117,7 @@ public class ParserUtil {
         if (!School.isValidSchool(trimmedSchool)) {
             throw new ParseException(School.MESSAGE_CONSTRAINTS);
         }
-        return new School(trimmedSchool);
+        return CanonicalValues.school(trimmedSchool);
     }
 
     /**
@@ -130,7 +131,7 @@ public class ParserUtil {
         if (!Degree.isValidDegree(trimmedDegree)) {
             throw new ParseException(Degree.MESSAGE_CONSTRAINTS);
         }
-        return new Degree(trimmedDegree);
+        return CanonicalValues.degree(trimmedDegree);
     }
 
     /**
@@ -181,7 +182,7 @@ public class ParserUtil {
         if (!Skill.isValidSkillName(trimmedSkill)) {
             throw new ParseException(Skill.MESSAGE_CONSTRAINTS);
         }
-        return new Skill(trimmedSkill);
+        return CanonicalValues.skill(trimmedSkill);
     }
 
     /**
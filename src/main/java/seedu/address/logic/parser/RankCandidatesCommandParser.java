@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_INDEX_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RankCandidatesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RankCandidatesCommand object
+ */
+public class RankCandidatesCommandParser implements Parser<RankCandidatesCommand> {
+
+    public static final String MESSAGE_INVALID_SHORTLIST_SIZE = "Shortlist size is not a non-zero unsigned integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RankCandidatesCommand
+     * and returns a RankCandidatesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RankCandidatesCommand parse(String args) throws ParseException {
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length > 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCandidatesCommand.MESSAGE_USAGE));
+        }
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(tokens[0]);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_INDEX_FORMAT,
+                    pe.getMessage(), RankCandidatesCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (tokens.length == 1) {
+            return new RankCandidatesCommand(index, RankCandidatesCommand.DEFAULT_SHORTLIST_SIZE);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(tokens[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_INDEX_FORMAT,
+                    MESSAGE_INVALID_SHORTLIST_SIZE, RankCandidatesCommand.MESSAGE_USAGE));
+        }
+        return new RankCandidatesCommand(index, Integer.parseInt(tokens[1]));
+    }
+}
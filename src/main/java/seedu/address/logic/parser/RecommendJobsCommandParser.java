@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_INDEX_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RecommendJobsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RecommendJobsCommand object
+ */
+public class RecommendJobsCommandParser implements Parser<RecommendJobsCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "Count is not a non-zero unsigned integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RecommendJobsCommand
+     * and returns a RecommendJobsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RecommendJobsCommand parse(String args) throws ParseException {
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length > 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecommendJobsCommand.MESSAGE_USAGE));
+        }
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(tokens[0]);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_INDEX_FORMAT,
+                    pe.getMessage(), RecommendJobsCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (tokens.length == 1) {
+            return new RecommendJobsCommand(index, RecommendJobsCommand.DEFAULT_RECOMMENDATION_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(tokens[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_INDEX_FORMAT,
+                    MESSAGE_INVALID_COUNT, RecommendJobsCommand.MESSAGE_USAGE));
+        }
+        return new RecommendJobsCommand(index, Integer.parseInt(tokens[1]));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_METRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.ParserUtil.arePrefixesPresent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.stats.StatsDimension;
+import seedu.address.model.stats.StatsMetric;
+import seedu.address.model.stats.StatsQuery;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP, PREFIX_METRIC, PREFIX_SKILL);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_GROUP) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+
+        List<StatsDimension> dimensions = new ArrayList<>();
+        for (String keyword : argMultimap.getAllValues(PREFIX_GROUP)) {
+            StatsDimension dimension = StatsDimension.fromKeyword(keyword.trim())
+                    .orElseThrow(() -> new ParseException(StatsDimension.MESSAGE_CONSTRAINTS));
+            if (!dimensions.contains(dimension)) {
+                dimensions.add(dimension);
+            }
+        }
+
+        List<StatsMetric> metrics = new ArrayList<>();
+        for (String keyword : argMultimap.getAllValues(PREFIX_METRIC)) {
+            StatsMetric metric = StatsMetric.fromKeyword(keyword.trim())
+                    .orElseThrow(() -> new ParseException(StatsMetric.MESSAGE_CONSTRAINTS));
+            if (!metrics.contains(metric)) {
+                metrics.add(metric);
+            }
+        }
+        if (metrics.isEmpty()) {
+            metrics.add(StatsMetric.COUNT);
+        }
+
+        return new StatsCommand(new StatsQuery(dimensions, metrics,
+                ParserUtil.parseSkills(argMultimap.getAllValues(PREFIX_SKILL))));
+    }
+}
@@ -2,8 +2,14 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,6 +17,18 @@ import seedu.address.model.job.Job;
 import seedu.address.model.job.UniqueJobList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.FuzzyKeyword;
+import seedu.address.model.search.NgramIndex;
+import seedu.address.model.search.PartialKeyword;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.search.SearchTokens;
+import seedu.address.model.search.TokenIndex;
+import seedu.address.model.search.TokenLookup;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillIndex;
+import seedu.address.model.skill.SkillMatch;
+import seedu.address.model.skill.SkillMatchRanker;
+import seedu.address.model.skill.SkillSet;
 
 /**
  * Wraps all data at the address-book level Duplicates are not allowed (by
@@ -21,6 +39,26 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueJobList jobs;
 
+    // Inverted indexes from each skill to the persons and jobs above that have it. Searches for persons by skill are
+    // answered from the former.
+    private final SkillIndex<Person> personsBySkill;
+    private final SkillIndex<Job> jobsBySkill;
+
+    // Inverted indexes from each search token to the persons above that have it in each field other than their
+    // skills, and to the jobs above that have it anywhere or in their title. The name and title indexes also find
+    // misspelt names and titles.
+    private final Map<PersonField, TokenIndex<Person>> personsByField;
+    private final TokenIndex<Job> jobsByToken;
+    private final TokenIndex<Job> jobsByTitle;
+
+    // N-gram indexes of the full names of the persons above and the titles of the jobs above, to find them by part
+    // of a name or title.
+    private final NgramIndex<Person> personsByNamePart;
+    private final NgramIndex<Job> jobsByTitlePart;
+
+    // Number of changes made to the persons and jobs above, so that storage can tell whether they need saving.
+    private long modificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block,
      * sometimes used to avoid duplication between constructors. See
@@ -32,6 +70,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         jobs = new UniqueJobList();
+        personsBySkill = new SkillIndex<>(Person::getSkillSet);
+        jobsBySkill = new SkillIndex<>(Job::getSkillSet);
+        personsByField = new EnumMap<>(PersonField.class);
+        for (PersonField field : PersonField.values()) {
+            if (field == PersonField.SKILL) {
+                continue;
+            }
+            personsByField.put(field, field == PersonField.NAME
+                    ? TokenIndex.withSimilarTokenSearch(field::tokensOf)
+                    : new TokenIndex<>(field::tokensOf));
+        }
+        jobsByToken = new TokenIndex<>(Job::getSearchTokens);
+        jobsByTitle = TokenIndex.withSimilarTokenSearch(job -> job.getJobTitle().getSearchTokens());
+        personsByNamePart = new NgramIndex<>(person -> person.getName().fullName);
+        jobsByTitlePart = new NgramIndex<>(job -> job.getJobTitle().toString());
     }
 
     public AddressBook() {
@@ -53,6 +106,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personsBySkill.rebuild(persons);
+        personsByField.values().forEach(index -> index.rebuild(persons));
+        personsByNamePart.rebuild(persons);
+        modificationCount++;
     }
 
     /**
@@ -61,6 +118,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setJobs(List<Job> jobs) {
         this.jobs.setJobs(jobs);
+        jobsBySkill.rebuild(jobs);
+        jobsByToken.rebuild(jobs);
+        jobsByTitle.rebuild(jobs);
+        jobsByTitlePart.rebuild(jobs);
+        modificationCount++;
     }
 
     /**
@@ -90,6 +152,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personsBySkill.add(p);
+        personsByField.values().forEach(index -> index.add(p));
+        personsByNamePart.add(p);
+        modificationCount++;
     }
 
     /**
@@ -102,6 +168,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        personsBySkill.remove(target);
+        personsBySkill.add(editedPerson);
+        personsByField.values().forEach(index -> {
+            index.remove(target);
+            index.add(editedPerson);
+        });
+        personsByNamePart.remove(target);
+        personsByNamePart.add(editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -110,6 +185,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personsBySkill.remove(key);
+        personsByField.values().forEach(index -> index.remove(key));
+        personsByNamePart.remove(key);
+        modificationCount++;
     }
 
     //// job-level operations
@@ -129,6 +208,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addJob(Job job) {
         jobs.add(job);
+        jobsBySkill.add(job);
+        jobsByToken.add(job);
+        jobsByTitle.add(job);
+        jobsByTitlePart.add(job);
+        modificationCount++;
     }
 
     /**
@@ -141,6 +225,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedJob);
 
         jobs.setJob(target, editedJob);
+        jobsBySkill.remove(target);
+        jobsBySkill.add(editedJob);
+        jobsByToken.remove(target);
+        jobsByToken.add(editedJob);
+        jobsByTitle.remove(target);
+        jobsByTitle.add(editedJob);
+        jobsByTitlePart.remove(target);
+        jobsByTitlePart.add(editedJob);
+        modificationCount++;
     }
 
     /**
@@ -149,6 +242,116 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeJob(Job key) {
         jobs.remove(key);
+        jobsBySkill.remove(key);
+        jobsByToken.remove(key);
+        jobsByTitle.remove(key);
+        jobsByTitlePart.remove(key);
+        modificationCount++;
+    }
+
+    //// skill-level operations
+
+    /**
+     * Returns the (at most) {@code limit} jobs whose required skills are best covered by the skills of
+     * {@code person}, best first. Jobs that require none of the person's skills are never returned.
+     */
+    public List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit) {
+        requireNonNull(person);
+        return SkillMatchRanker.rankCoveredBy(jobsBySkill, Job::getSkillSet, person.getSkillSet(), limit);
+    }
+
+    //// keyword search operations
+
+    /**
+     * Returns a predicate that tests whether a person in this address book has any of the given {@code keywords}
+     * in their profile, where a fuzzy keyword matches names within its edit distance and a partial keyword matches
+     * part of a name. The predicate is answered from the indexes, so it keeps up with later changes.
+     */
+    public Predicate<Person> getPersonKeywordPredicate(Collection<String> keywords) {
+        return getPersonSearchPredicate(Map.of(PersonField.ANY, List.copyOf(keywords)));
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in this address book has, for every field in
+     * {@code keywordsByField}, any of the keywords for that field. Each field is answered from its own token
+     * index, starting from the field with the fewest matching persons, so that most persons are rejected by the
+     * first lookup. Fuzzy keywords for the name (or any field) are expanded to the similar names in the name
+     * index, and partial keywords for the name are looked up in its n-gram index. The predicate keeps up with
+     * later changes, except that fuzzy keywords only match the names that were similar when it was created.
+     * <p>
+     * The indexes only make each test cheap: a filtered list still tests every person with the predicate, so a
+     * search takes time proportional to the number of persons, not to the number of matches.
+     */
+    public Predicate<Person> getPersonSearchPredicate(Map<PersonField, List<String>> keywordsByField) {
+        requireNonNull(keywordsByField);
+        List<TokenLookup<Person>> lookups = keywordsByField.entrySet().stream()
+                .map(entry -> lookUp(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(TokenLookup::matchCount))
+                .toList();
+        return person -> lookups.stream().allMatch(lookup -> lookup.matches(person));
+    }
+
+    /**
+     * Returns a predicate that tests whether a job in this address book has any of the given {@code keywords} in
+     * its details, where a fuzzy keyword matches titles within its edit distance and a partial keyword matches part
+     * of a title. The predicate is answered from the indexes, so it keeps up with later changes, except that fuzzy
+     * keywords only match the titles that were similar when it was created. As with
+     * {@link #getPersonSearchPredicate(Map)}, a filtered list still tests every job with it.
+     */
+    public Predicate<Job> getJobKeywordPredicate(Collection<String> keywords) {
+        requireNonNull(keywords);
+        TokenLookup<Job> lookup = new TokenLookup<Job>()
+                .add(jobsByToken, SearchTokens.normalize(SearchTokens.plainKeywords(keywords)))
+                .add(jobsByTitle, findSimilarTokens(jobsByTitle, keywords))
+                .add(jobsByTitlePart, partialKeywordsOf(keywords));
+        return lookup::matches;
+    }
+
+    /**
+     * Returns the lookup of {@code keywords} in the index of {@code field}.
+     */
+    private TokenLookup<Person> lookUp(PersonField field, List<String> keywords) {
+        TokenLookup<Person> lookup = new TokenLookup<>();
+        if (field == PersonField.SKILL) {
+            return lookup.add(personsBySkill, toSkillSet(field.plainTokensOf(keywords)));
+        }
+        if (!field.isNameSearched()) {
+            return lookup.add(personsByField.get(field), field.plainTokensOf(keywords));
+        }
+        TokenIndex<Person> personsByName = personsByField.get(PersonField.NAME);
+        return lookup.add(personsByField.get(field), field.plainTokensOf(keywords))
+                .add(personsByName, findSimilarTokens(personsByName, keywords))
+                .add(personsByNamePart, partialKeywordsOf(keywords));
+    }
+
+    /**
+     * Returns the skills named by {@code tokens}, ignoring tokens that are not valid skill names or name skills
+     * that have never been seen, as no person has those.
+     */
+    private static SkillSet toSkillSet(List<String> tokens) {
+        return SkillSet.ofKnown(tokens.stream()
+                .filter(Skill::isValidSkillName)
+                .map(Skill::new)
+                .toList());
+    }
+
+    private static List<PartialKeyword> partialKeywordsOf(Collection<String> keywords) {
+        return keywords.stream()
+                .flatMap(keyword -> PartialKeyword.parse(keyword).stream())
+                .toList();
+    }
+
+    /**
+     * Returns the tokens in {@code index} that are similar to any of the fuzzy keywords among {@code keywords},
+     * closest first.
+     */
+    private static <T> List<String> findSimilarTokens(TokenIndex<T> index, Collection<String> keywords) {
+        List<String> tokens = new ArrayList<>();
+        keywords.stream()
+                .flatMap(keyword -> FuzzyKeyword.parse(keyword).stream())
+                .forEach(fuzzyKeyword -> tokens.addAll(
+                        index.findSimilarTokens(fuzzyKeyword.term(), fuzzyKeyword.maxDistance())));
+        return tokens;
     }
 
     //// util methods
@@ -168,6 +371,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return jobs.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (!(other instanceof AddressBook otherAddressBook)) {
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.application.Application;
+
+/**
+ * A secondary hash index over applications, grouping them into buckets by a key derived from each application.
+ * Applications within a bucket are kept in the order they were indexed, which matches the order of the backing
+ * application list as long as every mutation of that list is mirrored here.
+ *
+ * @param <K> Type of the key that applications are grouped by.
+ */
+class ApplicationIndex<K> {
+    private final Function<Application, K> keyExtractor;
+    private final Map<K, List<Application>> buckets = new HashMap<>();
+
+    /**
+     * Creates an empty index that groups applications by {@code keyExtractor}.
+     */
+    ApplicationIndex(Function<Application, K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds {@code application} to the end of its bucket.
+     */
+    void add(Application application) {
+        buckets.computeIfAbsent(keyExtractor.apply(application), unused -> new ArrayList<>()).add(application);
+    }
+
+    /**
+     * Removes {@code application} from its bucket, dropping the bucket once it is empty.
+     */
+    void remove(Application application) {
+        K key = keyExtractor.apply(application);
+        List<Application> bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(application);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedApplication}.
+     * The replacement keeps its position if both share the same key, otherwise it is appended to its new bucket.
+     */
+    void replace(Application target, Application editedApplication) {
+        K key = keyExtractor.apply(target);
+        List<Application> bucket = buckets.get(key);
+        if (bucket != null && key.equals(keyExtractor.apply(editedApplication))) {
+            int index = bucket.indexOf(target);
+            if (index != -1) {
+                bucket.set(index, editedApplication);
+                return;
+            }
+        }
+        remove(target);
+        add(editedApplication);
+    }
+
+    /**
+     * Replaces each application that is a key of {@code editedApplications} with its value, which must have the
+     * same key. The replacements keep their positions.
+     */
+    void replaceAll(Map<Application, Application> editedApplications) {
+        Set<K> keys = new HashSet<>();
+        editedApplications.keySet().forEach(application -> keys.add(keyExtractor.apply(application)));
+        for (K key : keys) {
+            List<Application> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.replaceAll(application -> editedApplications.getOrDefault(application, application));
+            }
+        }
+    }
+
+    /**
+     * Discards the current contents and indexes every application in {@code applications}, in order.
+     */
+    void rebuild(Iterable<Application> applications) {
+        buckets.clear();
+        applications.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the applications with the given {@code key}, in list order.
+     */
+    List<Application> get(K key) {
+        List<Application> bucket = buckets.get(key);
+        return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket);
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.application.RoundCounts;
+import seedu.address.model.job.JobId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Running counts of applications in each round, per job and across all jobs, and of distinct applicants from each
+ * school. Every update takes constant time, so the counts can be read without going through the applications.
+ */
+class ApplicationStatistics {
+    private final Map<JobId, int[]> countsByJob = new HashMap<>();
+    private final int[] counts = new int[RoundCounts.ROUND_COUNT];
+    // Number of applications of each applicant, so that an applicant is only counted for their school once.
+    private final Map<PersonId, Integer> applicationCountsByApplicant = new HashMap<>();
+    private final Map<String, Integer> applicantCountsBySchool = new HashMap<>();
+    private final Function<Application, PersonId> applicantIdExtractor;
+    private final Function<Application, JobId> jobIdExtractor;
+
+    /**
+     * Creates empty counts that tell applicants and jobs apart by the IDs from {@code applicantIdExtractor} and
+     * {@code jobIdExtractor}.
+     */
+    ApplicationStatistics(Function<Application, PersonId> applicantIdExtractor,
+            Function<Application, JobId> jobIdExtractor) {
+        requireAllNonNull(applicantIdExtractor, jobIdExtractor);
+        this.applicantIdExtractor = applicantIdExtractor;
+        this.jobIdExtractor = jobIdExtractor;
+    }
+
+    /**
+     * Counts {@code application}.
+     */
+    void add(Application application) {
+        requireNonNull(application);
+        int round = application.getApplicationStatus().applicationStatus;
+        int[] jobCounts = countsByJob.computeIfAbsent(jobIdExtractor.apply(application),
+                unused -> new int[RoundCounts.ROUND_COUNT]);
+        jobCounts[round]++;
+        counts[round]++;
+        if (applicationCountsByApplicant.merge(applicantIdExtractor.apply(application), 1, Integer::sum) == 1) {
+            applicantCountsBySchool.merge(application.getApplicant().getSchool().value, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Stops counting {@code application}, which must have been counted.
+     */
+    void remove(Application application) {
+        requireNonNull(application);
+        int round = application.getApplicationStatus().applicationStatus;
+        JobId jobId = jobIdExtractor.apply(application);
+        int[] jobCounts = countsByJob.get(jobId);
+        if (jobCounts == null || jobCounts[round] == 0) {
+            return;
+        }
+        jobCounts[round]--;
+        counts[round]--;
+        if (Arrays.stream(jobCounts).allMatch(count -> count == 0)) {
+            countsByJob.remove(jobId);
+        }
+        PersonId applicantId = applicantIdExtractor.apply(application);
+        if (applicationCountsByApplicant.merge(applicantId, -1, Integer::sum) == 0) {
+            applicationCountsByApplicant.remove(applicantId);
+            removeApplicant(application.getApplicant().getSchool().value);
+        }
+    }
+
+    /**
+     * Counts the applicant with {@code applicantId} for the school of {@code editedApplicant} instead of the school
+     * of {@code applicant}, if the applicant has any applications.
+     */
+    void updateApplicant(PersonId applicantId, Person applicant, Person editedApplicant) {
+        String school = applicant.getSchool().value;
+        String editedSchool = editedApplicant.getSchool().value;
+        if (!applicationCountsByApplicant.containsKey(applicantId) || school.equals(editedSchool)) {
+            return;
+        }
+        removeApplicant(school);
+        applicantCountsBySchool.merge(editedSchool, 1, Integer::sum);
+    }
+
+    private void removeApplicant(String school) {
+        applicantCountsBySchool.computeIfPresent(school, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Counts {@code editedApplication} instead of {@code target}.
+     */
+    void replace(Application target, Application editedApplication) {
+        remove(target);
+        add(editedApplication);
+    }
+
+    /**
+     * Discards the current counts and counts every application in {@code applications}.
+     */
+    void rebuild(Iterable<Application> applications) {
+        countsByJob.clear();
+        Arrays.fill(counts, 0);
+        applicationCountsByApplicant.clear();
+        applicantCountsBySchool.clear();
+        applications.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of applications for the job with {@code jobId} in each round.
+     */
+    RoundCounts get(JobId jobId) {
+        int[] jobCounts = countsByJob.get(jobId);
+        return new RoundCounts(jobCounts == null ? new int[RoundCounts.ROUND_COUNT] : jobCounts);
+    }
+
+    /**
+     * Returns the number of applications across all jobs in each round.
+     */
+    RoundCounts get() {
+        return new RoundCounts(counts);
+    }
+
+    /**
+     * Returns the number of distinct applicants.
+     */
+    int getApplicantCount() {
+        return applicationCountsByApplicant.size();
+    }
+
+    /**
+     * Returns the number of distinct applicants from each school, from the school with the most applicants to the
+     * school with the fewest. Schools with the same number of applicants are in alphabetical order.
+     */
+    Map<String, Integer> getApplicantCountsBySchool() {
+        Map<String, Integer> sortedCounts = new LinkedHashMap<>();
+        applicantCountsBySchool.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sortedCounts.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(sortedCounts);
+    }
+}
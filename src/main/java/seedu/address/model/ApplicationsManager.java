@@ -3,19 +3,26 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.ParticipantRegistry;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.application.UniqueApplicationList;
 import seedu.address.model.application.exceptions.ApplicationNotFoundException;
 import seedu.address.model.application.exceptions.InvalidApplicationStatusException;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * Wraps all application data at the applications-manager level Duplicates are
@@ -25,6 +32,24 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
 
     private final UniqueApplicationList applications;
 
+    // Assigns IDs to the applicants and jobs of the applications above, which the indexes and statistics below are
+    // keyed by, so that they are unaffected when an applicant or job is renamed.
+    private ParticipantRegistry participants = new ParticipantRegistry();
+
+    // Secondary indexes over the applications above, keyed by the ID of the applicant and/or job, or by the status
+    // of the application and the ID of its job.
+    private final ApplicationIndex<PersonId> applicationsByPerson;
+    private final ApplicationIndex<JobId> applicationsByJob;
+    private final ApplicationIndex<PersonJobKey> applicationsByPersonAndJob;
+    private final ApplicationIndex<ApplicationStatus> applicationsByStatus;
+    private final ApplicationIndex<JobStatusKey> applicationsByJobAndStatus;
+
+    // Number of applications above in each round, per job and in total.
+    private final ApplicationStatistics statistics;
+
+    // Number of changes made to the applications above, so that storage can tell whether they need saving.
+    private long modificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block,
      * sometimes used to avoid duplication between constructors. See
@@ -35,6 +60,14 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      */
     {
         applications = new UniqueApplicationList();
+        applicationsByPerson = new ApplicationIndex<>(this::getApplicantId);
+        applicationsByJob = new ApplicationIndex<>(this::getJobId);
+        applicationsByPersonAndJob = new ApplicationIndex<>(application ->
+                new PersonJobKey(getApplicantId(application), getJobId(application)));
+        applicationsByStatus = new ApplicationIndex<>(Application::getApplicationStatus);
+        applicationsByJobAndStatus = new ApplicationIndex<>(application ->
+                new JobStatusKey(getJobId(application), application.getApplicationStatus()));
+        statistics = createStatistics();
     }
 
     public ApplicationsManager() {
@@ -57,6 +90,15 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      */
     public void setApplications(List<Application> applications) {
         this.applications.setApplications(applications);
+        participants = new ParticipantRegistry();
+        applications.forEach(this::register);
+        applicationsByPerson.rebuild(applications);
+        applicationsByJob.rebuild(applications);
+        applicationsByPersonAndJob.rebuild(applications);
+        applicationsByStatus.rebuild(applications);
+        applicationsByJobAndStatus.rebuild(applications);
+        statistics.rebuild(applications);
+        modificationCount++;
     }
 
     /**
@@ -86,6 +128,14 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      */
     public void addApplication(Application application) {
         applications.add(application);
+        register(application);
+        applicationsByPerson.add(application);
+        applicationsByJob.add(application);
+        applicationsByPersonAndJob.add(application);
+        applicationsByStatus.add(application);
+        applicationsByJobAndStatus.add(application);
+        statistics.add(application);
+        modificationCount++;
     }
 
     /**
@@ -95,9 +145,18 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      * the same as another existing application in the applications manager.
      */
     public void setApplication(Application target, Application editedApplication) {
-        requireNonNull(editedApplication);
+        requireAllNonNull(target, editedApplication);
 
         applications.setApplication(target, editedApplication);
+        register(editedApplication);
+        applicationsByPerson.replace(target, editedApplication);
+        applicationsByJob.replace(target, editedApplication);
+        applicationsByPersonAndJob.replace(target, editedApplication);
+        applicationsByStatus.replace(target, editedApplication);
+        applicationsByJobAndStatus.replace(target, editedApplication);
+        statistics.replace(target, editedApplication);
+        unregisterIfUnused(target);
+        modificationCount++;
     }
 
     /**
@@ -105,12 +164,27 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      * exist in the applications manager.
      */
     public void deleteApplication(Application key) {
+        requireNonNull(key);
+
         applications.delete(key);
+        applicationsByPerson.remove(key);
+        applicationsByJob.remove(key);
+        applicationsByPersonAndJob.remove(key);
+        applicationsByStatus.remove(key);
+        applicationsByJobAndStatus.remove(key);
+        statistics.remove(key);
+        unregisterIfUnused(key);
+        modificationCount++;
     }
 
     /**
      * Updates all applications involving {@code person} after the person has been
-     * modified.
+     * modified. The applications keep their positions and the IDs they are indexed
+     * by, so only the applications themselves are replaced.
+     * <p>
+     * Applications hold their applicant rather than its ID, so each affected application is rebuilt. This takes one
+     * pass over the application list to find their positions, plus time proportional to the affected applications
+     * in the indexes. The applicant itself is shared with the address book, not copied.
      *
      * @param oldPerson The person before modification
      * @param newPerson The person after modification
@@ -119,16 +193,31 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         requireNonNull(oldPerson);
         requireNonNull(newPerson);
 
-        // Find all applications involving this person and update them
-        getApplicationsByPerson(oldPerson).forEach(app -> {
-            Application newApp = new Application(newPerson, app.getJob(), app.getApplicationStatus());
-            setApplication(app, newApp);
-        });
+        Optional<PersonId> personId = participants.findPersonId(oldPerson);
+        if (personId.isEmpty()) {
+            return;
+        }
+
+        Map<Application, Application> editedApplications = new HashMap<>();
+        for (Application application : applicationsByPerson.get(personId.get())) {
+            editedApplications.put(application,
+                    new Application(newPerson, application.getJob(), application.getApplicationStatus()));
+        }
+        statistics.updateApplicant(personId.get(), oldPerson, newPerson);
+        participants.linkPerson(oldPerson, newPerson);
+        replaceApplications(editedApplications);
+        if (!oldPerson.isSamePerson(newPerson)) {
+            participants.unregisterPerson(oldPerson);
+            // Applications are saved with the name of their applicant, so only a change of identity changes them.
+            modificationCount++;
+        }
     }
 
     /**
      * Updates all applications involving {@code job} after the job has been
-     * modified.
+     * modified. The applications keep their positions and the IDs they are indexed
+     * by, so only the applications themselves are replaced.
+     * Like {@link #updatePerson(Person, Person)}, this takes one pass over the application list.
      *
      * @param oldJob The job before modification
      * @param newJob The job after modification
@@ -137,16 +226,25 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         requireNonNull(oldJob);
         requireNonNull(newJob);
 
-        // Find all applications involving this job and update them
-        getApplicationsByJob(oldJob).forEach(app -> {
+        Optional<JobId> jobId = participants.findJobId(oldJob);
+        if (jobId.isEmpty()) {
+            return;
+        }
+
+        Map<Application, Application> editedApplications = new HashMap<>();
+        for (Application app : applicationsByJob.get(jobId.get())) {
             // Check if application status is still valid with new job
             if (app.getApplicationStatus().applicationStatus > newJob.getJobRounds().jobRounds) {
                 throw new InvalidApplicationStatusException();
             }
-
-            Application newApp = new Application(app.getApplicant(), newJob, app.getApplicationStatus());
-            setApplication(app, newApp);
-        });
+            editedApplications.put(app, new Application(app.getApplicant(), newJob, app.getApplicationStatus()));
+        }
+        participants.linkJob(oldJob, newJob);
+        replaceApplications(editedApplications);
+        if (!oldJob.isSameJob(newJob)) {
+            participants.unregisterJob(oldJob);
+            modificationCount++;
+        }
     }
 
     /**
@@ -184,11 +282,9 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public List<Application> getApplicationsByPerson(Person person) {
         requireNonNull(person);
 
-        return applications
-                .asUnmodifiableObservableList()
-                .stream()
-                .filter(app -> app.getApplicant().isSamePerson(person))
-                .collect(Collectors.toList());
+        return participants.findPersonId(person)
+                .map(personId -> new ArrayList<>(applicationsByPerson.get(personId)))
+                .orElseGet(ArrayList::new);
     }
 
     /**
@@ -200,8 +296,85 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public List<Application> getApplicationsByJob(Job job) {
         requireNonNull(job);
 
-        return applications.asUnmodifiableObservableList().stream().filter(app -> app.getJob().isSameJob(job))
-                .collect(Collectors.toList());
+        return participants.findJobId(job)
+                .map(jobId -> new ArrayList<>(applicationsByJob.get(jobId)))
+                .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Gets all applications with a specific status, across all jobs.
+     *
+     * @param status The status of the applications to retrieve
+     * @return A list of applications with the status
+     */
+    public List<Application> getApplicationsByStatus(ApplicationStatus status) {
+        requireNonNull(status);
+
+        return new ArrayList<>(applicationsByStatus.get(status));
+    }
+
+    /**
+     * Gets all applications for a specific job with a specific status.
+     *
+     * @param job    The job whose applications to retrieve
+     * @param status The status of the applications to retrieve
+     * @return A list of applications for the job with the status
+     */
+    public List<Application> getApplicationsByJobAndStatus(Job job, ApplicationStatus status) {
+        requireAllNonNull(job, status);
+
+        return participants.findJobId(job)
+                .map(jobId -> new ArrayList<>(applicationsByJobAndStatus.get(new JobStatusKey(jobId, status))))
+                .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Gets the number of applications for a specific job in each round.
+     *
+     * @param job The job whose applications to count
+     * @return The number of applications for the job in each round
+     */
+    public RoundCounts getRoundCounts(Job job) {
+        requireNonNull(job);
+
+        return participants.findJobId(job)
+                .map(statistics::get)
+                .orElseGet(() -> new RoundCounts(new int[RoundCounts.ROUND_COUNT]));
+    }
+
+    /**
+     * Gets the number of applications across all jobs in each round.
+     *
+     * @return The number of applications in each round
+     */
+    public RoundCounts getRoundCounts() {
+        return statistics.get();
+    }
+
+    /**
+     * Gets the number of distinct applicants.
+     *
+     * @return The number of persons with at least one application
+     */
+    public int getApplicantCount() {
+        return statistics.getApplicantCount();
+    }
+
+    /**
+     * Gets the number of distinct applicants from each school.
+     *
+     * @return The number of applicants from each school, in descending order of count
+     */
+    public Map<String, Integer> getApplicantCountsBySchool() {
+        return statistics.getApplicantCountsBySchool();
+    }
+
+    /**
+     * Returns empty statistics that tell applicants and jobs apart the same way as the statistics of this
+     * applications manager. Only applications in this applications manager may be counted.
+     */
+    ApplicationStatistics createStatistics() {
+        return new ApplicationStatistics(this::getApplicantId, this::getJobId);
     }
 
     /**
@@ -214,15 +387,14 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public Optional<Application> getApplicationByPersonAndJob(Person person, Job job) {
         requireAllNonNull(person, job);
 
-        List<Application> candidateApplications = getApplicationsByPerson(person);
-
-        for (Application app : candidateApplications) {
-            if (app.getJob().isSameJob(job)) {
-                return Optional.of(app);
-            }
+        Optional<PersonId> personId = participants.findPersonId(person);
+        Optional<JobId> jobId = participants.findJobId(job);
+        if (personId.isEmpty() || jobId.isEmpty()) {
+            return Optional.empty();
         }
-
-        return Optional.empty();
+        return applicationsByPersonAndJob.get(new PersonJobKey(personId.get(), jobId.get()))
+                .stream()
+                .findFirst();
     }
 
     /**
@@ -241,12 +413,52 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         if (!hasApplication(application)) {
             throw new ApplicationNotFoundException();
         }
-
         Application advancedApplication = application.advance(rounds);
         setApplication(application, advancedApplication);
         return advancedApplication;
     }
 
+    /**
+     * Replaces each application that is a key of {@code editedApplications} with its value, which must have the
+     * same applicant and job IDs and the same status, so that the statistics are unaffected.
+     */
+    private void replaceApplications(Map<Application, Application> editedApplications) {
+        applications.setApplications(editedApplications);
+        applicationsByPerson.replaceAll(editedApplications);
+        applicationsByJob.replaceAll(editedApplications);
+        applicationsByPersonAndJob.replaceAll(editedApplications);
+        applicationsByStatus.replaceAll(editedApplications);
+        applicationsByJobAndStatus.replaceAll(editedApplications);
+    }
+
+    private void register(Application application) {
+        participants.registerPerson(application.getApplicant());
+        participants.registerJob(application.getJob());
+    }
+
+    /**
+     * Removes the applicant and job of {@code application}, which has just been removed, from the registry if no
+     * other application refers to them.
+     */
+    private void unregisterIfUnused(Application application) {
+        Person applicant = application.getApplicant();
+        Job job = application.getJob();
+        if (applicationsByPerson.get(participants.getPersonId(applicant)).isEmpty()) {
+            participants.unregisterPerson(applicant);
+        }
+        if (applicationsByJob.get(participants.getJobId(job)).isEmpty()) {
+            participants.unregisterJob(job);
+        }
+    }
+
+    private PersonId getApplicantId(Application application) {
+        return participants.getPersonId(application.getApplicant());
+    }
+
+    private JobId getJobId(Application application) {
+        return participants.getJobId(application.getJob());
+    }
+
     //// util methods
 
     @Override
@@ -259,6 +471,11 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         return applications.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -277,4 +494,16 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public int hashCode() {
         return Objects.hash(applications);
     }
+
+    /**
+     * Composite key of an application's applicant and job IDs.
+     */
+    private record PersonJobKey(PersonId personId, JobId jobId) {
+    }
+
+    /**
+     * Composite key of an application's job ID and status.
+     */
+    private record JobStatusKey(JobId jobId, ApplicationStatus status) {
+    }
 }
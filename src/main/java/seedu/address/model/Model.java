@@ -2,14 +2,19 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.skill.SkillMatch;
 
 /**
  * The API of the Model component.
@@ -169,6 +174,26 @@ public interface Model {
      */
     void resetFilteredJobList();
 
+    /**
+     * Returns the (at most) {@code limit} jobs in the address book whose required
+     * skills are best covered by the skills of {@code person}, best first.
+     */
+    List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit);
+
+    /**
+     * Returns a predicate that tests whether a person in the address book has, for
+     * every field in {@code keywordsByField}, any of the keywords for that field,
+     * answered from the token indexes of the address book.
+     */
+    Predicate<Person> getPersonSearchPredicate(Map<PersonField, List<String>> keywordsByField);
+
+    /**
+     * Returns a predicate that tests whether a job in the address book has any of
+     * the given {@code keywords} in its details, answered from the token index of
+     * the address book.
+     */
+    Predicate<Job> getJobKeywordPredicate(List<String> keywords);
+
     // =========== ApplicationsManager Methods
     // =============================================================
 
@@ -216,6 +241,12 @@ public interface Model {
      */
     Application advanceApplication(Application application, int rounds);
 
+    /**
+     * Returns the changes made to the persons, jobs and applications since the last call, in the order they were
+     * made, and forgets them.
+     */
+    List<Mutation> takeMutations();
+
     /** Returns an unmodifiable view of the filtered application list */
     ObservableList<Application> getFilteredApplicationList();
 
@@ -306,6 +337,50 @@ public interface Model {
      */
     List<Application> getFilteredApplicationsByPerson(Person person);
 
+    /**
+     * Gets the applications with a specific status, across all jobs, regardless of the current filters.
+     * @param status The status of the applications to get
+     * @return List of applications with the status
+     */
+    List<Application> getApplicationsByStatus(ApplicationStatus status);
+
+    /**
+     * Gets the applications for a specific job with a specific status, regardless of the current filters.
+     * @param job The job to get applications for
+     * @param status The status of the applications to get
+     * @return List of applications for the job with the status
+     */
+    List<Application> getApplicationsByJobAndStatus(Job job, ApplicationStatus status);
+
+    /**
+     * Gets the number of applications for a specific job in each round,
+     * taking into account current application filters.
+     * @param job The job to count applications for
+     * @return The number of filtered applications for the job in each round
+     */
+    RoundCounts getFilteredRoundCounts(Job job);
+
+    /**
+     * Gets the number of applications for the jobs in the filtered job list in each round,
+     * taking into account current application filters.
+     * @return The number of filtered applications for the filtered jobs in each round
+     */
+    RoundCounts getFilteredRoundCounts();
+
+    /**
+     * Gets the number of distinct applicants to the jobs in the filtered job list,
+     * taking into account current application filters.
+     * @return The number of persons with at least one such application
+     */
+    int getFilteredApplicantCount();
+
+    /**
+     * Gets the number of distinct applicants to the jobs in the filtered job list from each school,
+     * taking into account current application filters.
+     * @return The number of applicants from each school, in descending order of count
+     */
+    Map<String, Integer> getFilteredApplicantCountsBySchool();
+
     /**
      * Gets the current view state.
      * @return The current view state.
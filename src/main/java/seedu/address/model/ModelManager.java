@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -14,8 +18,12 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.skill.SkillMatch;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -31,6 +39,8 @@ public class ModelManager implements Model {
     private final StackableFilteredList<Application> filteredApplications;
     private ViewState currentViewState = ViewState.JOB_VIEW; // Default to person view
     private final DoublyLinkedList commandHistory;
+    // Changes made to the persons, jobs and applications that have not been taken yet.
+    private final List<Mutation> mutations = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook, applicationsManager,
@@ -130,6 +140,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        mutations.add(new Mutation.ResetAddressBook(addressBook));
     }
 
     @Override
@@ -152,11 +163,13 @@ public class ModelManager implements Model {
         applicationsManager.removePersonApplications(target);
         // Then remove the person
         addressBook.removePerson(target);
+        mutations.add(new Mutation.DeletePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        mutations.add(new Mutation.AddPerson(person));
         resetFilteredPersonList();
     }
 
@@ -169,6 +182,7 @@ public class ModelManager implements Model {
 
         // Update any applications that contain this person
         applicationsManager.updatePerson(target, editedPerson);
+        mutations.add(new Mutation.SetPerson(target, editedPerson));
     }
 
     // =========== Job Operations
@@ -186,11 +200,13 @@ public class ModelManager implements Model {
         applicationsManager.removeJobApplications(target);
         // Then remove the job
         addressBook.removeJob(target);
+        mutations.add(new Mutation.DeleteJob(target));
     }
 
     @Override
     public void addJob(Job job) {
         addressBook.addJob(job);
+        mutations.add(new Mutation.AddJob(job));
         resetFilteredJobList();
     }
 
@@ -203,6 +219,7 @@ public class ModelManager implements Model {
 
         // Update any applications that contain this job
         applicationsManager.updateJob(target, editedJob);
+        mutations.add(new Mutation.SetJob(target, editedJob));
     }
 
     // =========== Filtered Person List Accessors
@@ -249,6 +266,21 @@ public class ModelManager implements Model {
         filteredJobs.clearFilters();
     }
 
+    @Override
+    public List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit) {
+        return addressBook.getRecommendedJobs(person, limit);
+    }
+
+    @Override
+    public Predicate<Person> getPersonSearchPredicate(Map<PersonField, List<String>> keywordsByField) {
+        return addressBook.getPersonSearchPredicate(keywordsByField);
+    }
+
+    @Override
+    public Predicate<Job> getJobKeywordPredicate(List<String> keywords) {
+        return addressBook.getJobKeywordPredicate(keywords);
+    }
+
     // =========== ApplicationsManager Methods
     // =================================================================
 
@@ -260,6 +292,7 @@ public class ModelManager implements Model {
     @Override
     public void setApplicationsManager(ReadOnlyApplicationsManager applicationsManager) {
         this.applicationsManager.resetData(applicationsManager);
+        mutations.add(new Mutation.ResetApplicationsManager(applicationsManager));
     }
 
     @Override
@@ -271,11 +304,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteApplication(Application target) {
         applicationsManager.deleteApplication(target);
+        mutations.add(new Mutation.DeleteApplication(target));
     }
 
     @Override
     public void addApplication(Application application) {
         applicationsManager.addApplication(application);
+        mutations.add(new Mutation.AddApplication(application));
         updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
     }
 
@@ -283,12 +318,22 @@ public class ModelManager implements Model {
     public void setApplication(Application target, Application editedApplication) {
         requireAllNonNull(target, editedApplication);
         applicationsManager.setApplication(target, editedApplication);
+        mutations.add(new Mutation.SetApplication(target, editedApplication));
     }
 
     @Override
     public Application advanceApplication(Application application, int rounds) {
         requireNonNull(application);
-        return applicationsManager.advanceApplication(application, rounds);
+        Application advancedApplication = applicationsManager.advanceApplication(application, rounds);
+        mutations.add(new Mutation.SetApplication(application, advancedApplication));
+        return advancedApplication;
+    }
+
+    @Override
+    public List<Mutation> takeMutations() {
+        List<Mutation> takenMutations = List.copyOf(mutations);
+        mutations.clear();
+        return takenMutations;
     }
 
     @Override
@@ -354,10 +399,9 @@ public class ModelManager implements Model {
         // Get all applications for the job
         List<Application> allJobApplications = applicationsManager.getApplicationsByJob(job);
 
-        // Filter using the current application filters by testing against the filtered
-        // list
+        // Filter using the current application filters
         return allJobApplications.stream()
-                .filter(app -> filteredApplications.getFilteredList().contains(app))
+                .filter(filteredApplications::contains)
                 .collect(Collectors.toList());
     }
 
@@ -373,13 +417,73 @@ public class ModelManager implements Model {
         // Get all applications for the person
         List<Application> allPersonApplications = applicationsManager.getApplicationsByPerson(person);
 
-        // Filter using the current application filters by testing against the filtered
-        // list
+        // Filter using the current application filters
         return allPersonApplications.stream()
-                .filter(app -> filteredApplications.getFilteredList().contains(app))
+                .filter(filteredApplications::contains)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Application> getApplicationsByStatus(ApplicationStatus status) {
+        requireNonNull(status);
+        return applicationsManager.getApplicationsByStatus(status);
+    }
+
+    @Override
+    public List<Application> getApplicationsByJobAndStatus(Job job, ApplicationStatus status) {
+        requireAllNonNull(job, status);
+        return applicationsManager.getApplicationsByJobAndStatus(job, status);
+    }
+
+    @Override
+    public RoundCounts getFilteredRoundCounts(Job job) {
+        requireNonNull(job);
+        // The running counts cover every application, so they can only be used when no application is filtered out
+        if (!filteredApplications.isFiltered()) {
+            return applicationsManager.getRoundCounts(job);
+        }
+        return RoundCounts.of(getFilteredApplicationsByJob(job));
+    }
+
+    @Override
+    public RoundCounts getFilteredRoundCounts() {
+        if (!filteredApplications.isFiltered() && !filteredJobs.isFiltered()) {
+            return applicationsManager.getRoundCounts();
+        }
+        RoundCounts counts = new RoundCounts(new int[RoundCounts.ROUND_COUNT]);
+        for (Job job : filteredJobs.getFilteredList()) {
+            counts = counts.plus(getFilteredRoundCounts(job));
+        }
+        return counts;
+    }
+
+    @Override
+    public int getFilteredApplicantCount() {
+        if (!filteredApplications.isFiltered() && !filteredJobs.isFiltered()) {
+            return applicationsManager.getApplicantCount();
+        }
+        return getFilteredStatistics().getApplicantCount();
+    }
+
+    @Override
+    public Map<String, Integer> getFilteredApplicantCountsBySchool() {
+        if (!filteredApplications.isFiltered() && !filteredJobs.isFiltered()) {
+            return applicationsManager.getApplicantCountsBySchool();
+        }
+        return getFilteredStatistics().getApplicantCountsBySchool();
+    }
+
+    /**
+     * Returns the statistics of the filtered applications for the jobs in the filtered job list.
+     */
+    private ApplicationStatistics getFilteredStatistics() {
+        ApplicationStatistics statistics = applicationsManager.createStatistics();
+        for (Job job : filteredJobs.getFilteredList()) {
+            getFilteredApplicationsByJob(job).forEach(statistics::add);
+        }
+        return statistics;
+    }
+
     @Override
     public Optional<Application> getApplicationByPersonAndJob(Person person, Job job) {
         requireAllNonNull(person, job);
@@ -412,13 +516,10 @@ public class ModelManager implements Model {
 
         // If application filters are active (list size is different from total)
         if (currentFilteredApps.size() < applicationsManager.getApplicationList().size()) {
-            // Find jobs that have at least one application in the filtered application list
-            List<Job> jobsWithMatchingApplications = addressBook.getJobList().stream()
-                    .filter(job -> {
-                        List<Application> jobApps = applicationsManager.getApplicationsByJob(job);
-                        return jobApps.stream().anyMatch(currentFilteredApps::contains);
-                    })
-                    .collect(Collectors.toList());
+            // Find jobs that have at least one application in the filtered application list, in one pass over it
+            Set<Job> jobsWithMatchingApplications = currentFilteredApps.stream()
+                    .map(Application::getJob)
+                    .collect(Collectors.toCollection(HashSet::new));
 
             // Clear existing job filters and apply the new filter
             filteredJobs.clearFilters();
@@ -0,0 +1,192 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change made to the persons, jobs or applications of a {@code Model}, which can be made again by applying
+ * it to a model with the same data as the original model had before the change.
+ */
+public sealed interface Mutation {
+
+    /**
+     * Makes this change to {@code model}.
+     */
+    void applyTo(Model model);
+
+    /**
+     * Returns true if this change replaces the data of the model as a whole, rather than changing a single person,
+     * job or application.
+     */
+    default boolean isReset() {
+        return false;
+    }
+
+    /**
+     * Adds {@code person} to the model.
+     */
+    record AddPerson(Person person) implements Mutation {
+        public AddPerson {
+            requireNonNull(person);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.addPerson(person);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the model with {@code editedPerson}.
+     */
+    record SetPerson(Person target, Person editedPerson) implements Mutation {
+        public SetPerson {
+            requireAllNonNull(target, editedPerson);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.setPerson(target, editedPerson);
+        }
+    }
+
+    /**
+     * Deletes {@code target} and its applications from the model.
+     */
+    record DeletePerson(Person target) implements Mutation {
+        public DeletePerson {
+            requireNonNull(target);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.deletePerson(target);
+        }
+    }
+
+    /**
+     * Adds {@code job} to the model.
+     */
+    record AddJob(Job job) implements Mutation {
+        public AddJob {
+            requireNonNull(job);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.addJob(job);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the model with {@code editedJob}.
+     */
+    record SetJob(Job target, Job editedJob) implements Mutation {
+        public SetJob {
+            requireAllNonNull(target, editedJob);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.setJob(target, editedJob);
+        }
+    }
+
+    /**
+     * Deletes {@code target} and its applications from the model.
+     */
+    record DeleteJob(Job target) implements Mutation {
+        public DeleteJob {
+            requireNonNull(target);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.deleteJob(target);
+        }
+    }
+
+    /**
+     * Adds {@code application} to the model.
+     */
+    record AddApplication(Application application) implements Mutation {
+        public AddApplication {
+            requireNonNull(application);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.addApplication(application);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the model with {@code editedApplication}.
+     */
+    record SetApplication(Application target, Application editedApplication) implements Mutation {
+        public SetApplication {
+            requireAllNonNull(target, editedApplication);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.setApplication(target, editedApplication);
+        }
+    }
+
+    /**
+     * Deletes {@code target} from the model.
+     */
+    record DeleteApplication(Application target) implements Mutation {
+        public DeleteApplication {
+            requireNonNull(target);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.deleteApplication(target);
+        }
+    }
+
+    /**
+     * Replaces the persons and jobs of the model with those in {@code addressBook}.
+     */
+    record ResetAddressBook(ReadOnlyAddressBook addressBook) implements Mutation {
+        public ResetAddressBook {
+            requireNonNull(addressBook);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.setAddressBook(addressBook);
+        }
+
+        @Override
+        public boolean isReset() {
+            return true;
+        }
+    }
+
+    /**
+     * Replaces the applications of the model with those in {@code applicationsManager}.
+     */
+    record ResetApplicationsManager(ReadOnlyApplicationsManager applicationsManager) implements Mutation {
+        public ResetApplicationsManager {
+            requireNonNull(applicationsManager);
+        }
+
+        @Override
+        public void applyTo(Model model) {
+            model.setApplicationsManager(applicationsManager);
+        }
+
+        @Override
+        public boolean isReset() {
+            return true;
+        }
+    }
+}
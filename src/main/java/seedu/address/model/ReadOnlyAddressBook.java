@@ -20,4 +20,10 @@ public interface ReadOnlyAddressBook {
      * duplicate jobs.
      */
     ObservableList<Job> getJobList();
+
+    /**
+     * Returns the number of changes made to the persons and jobs so far. The count is only meaningful for comparing
+     * two states of the same address book.
+     */
+    long getModificationCount();
 }
@@ -12,4 +12,10 @@ public interface ReadOnlyApplicationsManager {
      * contain any duplicate applications.
      */
     ObservableList<Application> getApplicationList();
+
+    /**
+     * Returns the number of changes made to the applications so far. The count is only meaningful for comparing
+     * two states of the same applications manager.
+     */
+    long getModificationCount();
 }
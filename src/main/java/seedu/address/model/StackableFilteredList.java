@@ -1,8 +1,12 @@
 package seedu.address.model;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
@@ -12,6 +16,9 @@ import javafx.collections.transformation.FilteredList;
  * {@code Predicate} are combined with past {@code Predicate} using logical AND.
  * Default {@code Predicate} at initialisation is true, and all elements will be matched.
  * All changes in the ObservableList are propagated immediately to the FilteredList.
+ * Each new {@code Predicate} only tests the elements that matched the previous ones, as the outcome of the past
+ * {@code Predicate} for every element is remembered. Elements are remembered by identity, so an element that is
+ * replaced in the ObservableList is tested against every {@code Predicate} again.
  *
  * @param <E> Element of the ObservableList
  */
@@ -20,6 +27,12 @@ public class StackableFilteredList<E> {
     private FilteredList<E> filteredList;
     private Predicate<E> combinedPredicate;
 
+    // The test that the filtered list applies to an element, before its outcome is recorded.
+    private Predicate<E> elementTest;
+
+    // The elements in the original list that the past predicates do not match. Null if there are no past predicates.
+    private Set<E> nonMatches;
+
     /**
      * Creates a StackableFilteredList
      * @param list List of elements to keep track of.
@@ -28,6 +41,8 @@ public class StackableFilteredList<E> {
         this.originalList = list;
         this.filteredList = new FilteredList<>(list);
         this.combinedPredicate = unused -> true;
+        this.elementTest = combinedPredicate;
+        list.addListener(this::forgetRemovedElements);
     }
 
     /**
@@ -35,15 +50,54 @@ public class StackableFilteredList<E> {
      */
     public void addPredicate(Predicate<E> newPredicate) {
         combinedPredicate = combinedPredicate.and(newPredicate);
-        filteredList.setPredicate(combinedPredicate);
+
+        if (nonMatches == null) {
+            elementTest = newPredicate;
+        } else {
+            Set<E> pastMatches = newIdentitySet();
+            pastMatches.addAll(filteredList);
+            elementTest = element -> pastMatches.contains(element) && newPredicate.test(element);
+        }
+        nonMatches = newIdentitySet();
+        filteredList.setPredicate(element -> record(element, elementTest.test(element)));
+
+        // Elements added to the original list from now on have not been tested against any predicate.
+        elementTest = combinedPredicate;
     }
 
     /**
-     * Resets filter to match all elements in original list.
+     * Resets filter to match all elements in original list. No {@code Predicate} is tested.
+     * If every element matches already, this takes constant time. Otherwise the filtered list is rebuilt from the
+     * original list, which takes time proportional to its size rather than to the number of elements filtered out,
+     * as {@code FilteredList} can only bring back elements by going through the whole original list.
      */
     public void clearFilters() {
+        boolean hasNonMatches = nonMatches != null && !nonMatches.isEmpty();
         combinedPredicate = item -> true;
-        filteredList.setPredicate(combinedPredicate);
+        elementTest = combinedPredicate;
+        nonMatches = null;
+
+        // If every element matches already, the filtered list is left as it is, as its predicate now matches all
+        // elements too.
+        if (hasNonMatches) {
+            filteredList.setPredicate(null);
+        }
+    }
+
+    /**
+     * Returns true if the past {@code Predicate} filter out any element of the original list.
+     * A {@code Predicate} that matches every element, such as one that shows all elements, does not count.
+     */
+    public boolean isFiltered() {
+        return nonMatches != null && !nonMatches.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code element}, which must be in the original list, is in the filtered list.
+     * Unlike {@code getFilteredList().contains(element)}, this takes constant time.
+     */
+    public boolean contains(E element) {
+        return nonMatches == null || !nonMatches.contains(element);
     }
 
     public ObservableList<E> getOriginalList() {
@@ -54,6 +108,41 @@ public class StackableFilteredList<E> {
         return filteredList;
     }
 
+    /**
+     * Remembers whether {@code element} matches the past predicates, and returns {@code isMatch}.
+     */
+    private boolean record(E element, boolean isMatch) {
+        if (nonMatches != null) {
+            if (isMatch) {
+                nonMatches.remove(element);
+            } else {
+                nonMatches.add(element);
+            }
+        }
+        return isMatch;
+    }
+
+    /**
+     * Forgets the outcome of the past predicates for the elements that {@code change} removes from the original list,
+     * unless they are added back by the same change.
+     */
+    private void forgetRemovedElements(ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            if (nonMatches == null || !change.wasRemoved()) {
+                continue;
+            }
+            Set<E> addedElements = newIdentitySet();
+            addedElements.addAll(change.getAddedSubList());
+            change.getRemoved().stream()
+                    .filter(element -> !addedElements.contains(element))
+                    .forEach(nonMatches::remove);
+        }
+    }
+
+    private static <E> Set<E> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -10,6 +10,8 @@ import seedu.address.model.person.Person;
 
 /**
  * Represents a job application with an applicant, job, and status.
+ * Guarantees: immutable; the hash code only depends on the identities of the applicant and job and on the status,
+ * and is computed once.
  */
 public class Application {
     public static final String EXCEED_ROUNDS_MESSAGE = "Application status cannot exceed the number of job rounds";
@@ -17,6 +19,7 @@ public class Application {
     private final Person applicant;
     private final Job job;
     private final ApplicationStatus applicationStatus;
+    private final int hashCode;
 
     /**
      * Constructs an Application with the specified applicant, job, and status.
@@ -37,6 +40,7 @@ public class Application {
         this.applicant = applicant;
         this.job = job;
         this.applicationStatus = applicationStatus;
+        this.hashCode = Objects.hash(applicant.getName(), job.getJobTitle(), applicationStatus);
     }
 
     /**
@@ -107,8 +111,8 @@ public class Application {
         if (!(other instanceof Application otherApplication)) {
             return false;
         }
-        return applicant.equals(otherApplication.applicant) && job.equals(otherApplication.job)
-                && applicationStatus.equals(otherApplication.applicationStatus);
+        return hashCode == otherApplication.hashCode && applicant.equals(otherApplication.applicant)
+                && job.equals(otherApplication.job) && applicationStatus.equals(otherApplication.applicationStatus);
     }
 
     /**
@@ -129,6 +133,6 @@ public class Application {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(applicant, job, applicationStatus);
+        return hashCode;
     }
 }
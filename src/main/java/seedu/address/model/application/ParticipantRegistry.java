@@ -0,0 +1,114 @@
+package seedu.address.model.application;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobId;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Assigns stable surrogate IDs to the identities of the applicants and jobs that applications refer to.
+ * An ID is kept when its person or job is edited, including when the identity itself changes, so that anything
+ * keyed by the ID does not have to be re-keyed. Persons and jobs are identified by {@code Person#isSamePerson(Person)}
+ * and {@code Job#isSameJob(Job)}.
+ */
+public class ParticipantRegistry {
+    private final Map<Name, PersonId> personIds = new HashMap<>();
+    private final Map<JobTitle, JobId> jobIds = new HashMap<>();
+    private int nextPersonId;
+    private int nextJobId;
+
+    /**
+     * Returns the ID of the identity of {@code person}, assigning a new one if it is not registered.
+     */
+    public PersonId registerPerson(Person person) {
+        requireNonNull(person);
+        return personIds.computeIfAbsent(person.getName(), name -> new PersonId(nextPersonId++));
+    }
+
+    /**
+     * Returns the ID of the identity of {@code job}, assigning a new one if it is not registered.
+     */
+    public JobId registerJob(Job job) {
+        requireNonNull(job);
+        return jobIds.computeIfAbsent(job.getJobTitle(), title -> new JobId(nextJobId++));
+    }
+
+    /**
+     * Returns the ID of the registered person with the same identity as {@code person}, if any.
+     */
+    public Optional<PersonId> findPersonId(Person person) {
+        requireNonNull(person);
+        return Optional.ofNullable(personIds.get(person.getName()));
+    }
+
+    /**
+     * Returns the ID of the registered job with the same identity as {@code job}, if any.
+     */
+    public Optional<JobId> findJobId(Job job) {
+        requireNonNull(job);
+        return Optional.ofNullable(jobIds.get(job.getJobTitle()));
+    }
+
+    /**
+     * Returns the ID of the registered person with the same identity as {@code person}.
+     * The person must be registered.
+     */
+    public PersonId getPersonId(Person person) {
+        PersonId id = personIds.get(person.getName());
+        assert id != null : "Unregistered person " + person.getName();
+        return id;
+    }
+
+    /**
+     * Returns the ID of the registered job with the same identity as {@code job}.
+     * The job must be registered.
+     */
+    public JobId getJobId(Job job) {
+        JobId id = jobIds.get(job.getJobTitle());
+        assert id != null : "Unregistered job " + job.getJobTitle();
+        return id;
+    }
+
+    /**
+     * Gives the identity of {@code editedPerson} the ID of {@code person}, which must be registered.
+     * Until {@link #unregisterPerson(Person)} is called for {@code person}, both identities have that ID.
+     */
+    public void linkPerson(Person person, Person editedPerson) {
+        requireAllNonNull(person, editedPerson);
+        personIds.put(editedPerson.getName(), getPersonId(person));
+    }
+
+    /**
+     * Gives the identity of {@code editedJob} the ID of {@code job}, which must be registered.
+     * Until {@link #unregisterJob(Job)} is called for {@code job}, both identities have that ID.
+     */
+    public void linkJob(Job job, Job editedJob) {
+        requireAllNonNull(job, editedJob);
+        jobIds.put(editedJob.getJobTitle(), getJobId(job));
+    }
+
+    /**
+     * Removes the identity of {@code person} from the registry.
+     */
+    public void unregisterPerson(Person person) {
+        requireNonNull(person);
+        personIds.remove(person.getName());
+    }
+
+    /**
+     * Removes the identity of {@code job} from the registry.
+     */
+    public void unregisterJob(Job job) {
+        requireNonNull(job);
+        jobIds.remove(job.getJobTitle());
+    }
+}
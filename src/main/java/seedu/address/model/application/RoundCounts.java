@@ -0,0 +1,98 @@
+package seedu.address.model.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.job.JobRounds;
+
+/**
+ * Represents the number of applications in each round, from round 0 (applied) up to {@code JobRounds.MAX_ROUNDS}.
+ * Guarantees: immutable.
+ */
+public class RoundCounts {
+    public static final int ROUND_COUNT = JobRounds.MAX_ROUNDS + 1;
+
+    private final int[] counts;
+    private final int total;
+
+    /**
+     * Creates a {@code RoundCounts} from the number of applications in each round.
+     *
+     * @param counts Element i is the number of applications with status i. Must have {@code ROUND_COUNT} elements.
+     */
+    public RoundCounts(int[] counts) {
+        requireNonNull(counts);
+        if (counts.length != ROUND_COUNT) {
+            throw new IllegalArgumentException("There must be a count for each of the " + ROUND_COUNT + " rounds");
+        }
+        this.counts = counts.clone();
+        this.total = Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Returns the number of {@code applications} in each round.
+     */
+    public static RoundCounts of(Collection<Application> applications) {
+        int[] counts = new int[ROUND_COUNT];
+        applications.forEach(application -> counts[application.getApplicationStatus().applicationStatus]++);
+        return new RoundCounts(counts);
+    }
+
+    /**
+     * Returns the number of applications with status {@code round}.
+     */
+    public int get(int round) {
+        return counts[round];
+    }
+
+    /**
+     * Returns the number of applications across all rounds.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the largest number of applications in a single round.
+     */
+    public int getMax() {
+        return Arrays.stream(counts).max().orElse(0);
+    }
+
+    /**
+     * Returns the sum of these counts and {@code other}, round by round.
+     */
+    public RoundCounts plus(RoundCounts other) {
+        int[] sum = counts.clone();
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            sum[round] += other.counts[round];
+        }
+        return new RoundCounts(sum);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RoundCounts otherRoundCounts)) {
+            return false;
+        }
+        return Arrays.equals(counts, otherRoundCounts.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("counts", Arrays.toString(counts)).toString();
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,8 @@ import seedu.address.model.application.exceptions.DuplicateApplicationException;
 public class UniqueApplicationList implements Iterable<Application> {
 
     private final ObservableList<Application> internalList = FXCollections.observableArrayList();
+    // Hash index of internalList, as applications are identified by Application#equals(Object).
+    private final Set<Application> applicationSet = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent application as the given
@@ -27,7 +32,7 @@ public class UniqueApplicationList implements Iterable<Application> {
      */
     public boolean contains(Application toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(app -> app.equals(toCheck));
+        return applicationSet.contains(toCheck);
     }
 
     /**
@@ -40,6 +45,7 @@ public class UniqueApplicationList implements Iterable<Application> {
             throw new DuplicateApplicationException();
         }
         internalList.add(toAdd);
+        applicationSet.add(toAdd);
     }
 
     /**
@@ -61,6 +67,8 @@ public class UniqueApplicationList implements Iterable<Application> {
         }
 
         internalList.set(index, editedApplication);
+        applicationSet.remove(target);
+        applicationSet.add(editedApplication);
     }
 
     /**
@@ -72,11 +80,44 @@ public class UniqueApplicationList implements Iterable<Application> {
         if (!internalList.remove(toRemove)) {
             throw new ApplicationNotFoundException();
         }
+        applicationSet.remove(toRemove);
+    }
+
+    /**
+     * Replaces each application in the list that is a key of {@code editedApplications} with its value, in a single
+     * pass over the list. The keys must exist in the list. The values must not be the same as other applications in
+     * the list. The pass takes time proportional to the size of the list, however few applications are replaced, as
+     * the positions of the applications are not tracked.
+     */
+    public void setApplications(Map<Application, Application> editedApplications) {
+        requireNonNull(editedApplications);
+        for (Application editedApplication : editedApplications.values()) {
+            if (contains(editedApplication) && !editedApplications.containsKey(editedApplication)) {
+                throw new DuplicateApplicationException();
+            }
+        }
+        if (!applicationSet.containsAll(editedApplications.keySet())) {
+            throw new ApplicationNotFoundException();
+        }
+        if (editedApplications.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            Application editedApplication = editedApplications.get(internalList.get(i));
+            if (editedApplication != null) {
+                internalList.set(i, editedApplication);
+            }
+        }
+        applicationSet.removeAll(editedApplications.keySet());
+        applicationSet.addAll(editedApplications.values());
     }
 
     public void setApplications(UniqueApplicationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        applicationSet.clear();
+        applicationSet.addAll(replacement.applicationSet);
     }
 
     /**
@@ -89,6 +130,8 @@ public class UniqueApplicationList implements Iterable<Application> {
             throw new DuplicateApplicationException();
         }
         this.internalList.setAll(applications);
+        this.applicationSet.clear();
+        this.applicationSet.addAll(applications);
     }
 
     /**
@@ -130,13 +173,6 @@ public class UniqueApplicationList implements Iterable<Application> {
      * Returns true if {@code applications} contains only unique applications.
      */
     private boolean areApplicationsUnique(List<Application> applications) {
-        for (int i = 0; i < applications.size() - 1; i++) {
-            for (int j = i + 1; j < applications.size(); j++) {
-                if (applications.get(i).equals(applications.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(applications).size() == applications.size();
     }
 }
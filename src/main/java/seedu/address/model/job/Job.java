@@ -7,7 +7,9 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.model.search.SearchTokens;
 import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillSet;
 
 /**
  * Represents a job with a job title and additional properties.
@@ -16,6 +18,11 @@ public class Job {
     private final JobTitle jobTitle;
     private final JobRounds jobRounds;
     private final Set<Skill> skills = new HashSet<>();
+    private final SkillSet skillSet;
+
+    // Derived from the fields above on first use, as jobs are immutable.
+    private int hash;
+    private Set<String> searchTokens;
 
     /**
      * Constructs a Job with the specified job title and properties.
@@ -29,6 +36,7 @@ public class Job {
         this.jobTitle = jobTitle;
         this.jobRounds = jobRounds;
         this.skills.addAll(skills);
+        this.skillSet = SkillSet.of(skills);
     }
 
     /**
@@ -57,6 +65,23 @@ public class Job {
         return Collections.unmodifiableSet(this.skills);
     }
 
+    /**
+     * Returns the requisite skills of this job as a bitset.
+     */
+    public SkillSet getSkillSet() {
+        return this.skillSet;
+    }
+
+    /**
+     * Returns the search tokens of this job, as given by {@link SearchTokens#of(Job)}.
+     */
+    public Set<String> getSearchTokens() {
+        if (this.searchTokens == null) {
+            this.searchTokens = Set.copyOf(SearchTokens.of(this));
+        }
+        return this.searchTokens;
+    }
+
     /**
      * Returns true if both jobs have the same title and company. This defines a
      * weaker notion of equality between two jobs.
@@ -80,7 +105,7 @@ public class Job {
             return false;
         }
         return this.jobTitle.equals(otherJob.jobTitle) && this.jobRounds.equals(otherJob.jobRounds)
-                && this.skills.equals(otherJob.skills);
+                && this.skillSet.equals(otherJob.skillSet);
     }
 
     /**
@@ -90,6 +115,11 @@ public class Job {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(this.jobTitle, this.jobRounds, this.skills);
+        int h = this.hash;
+        if (h == 0) {
+            h = Objects.hash(this.jobTitle, this.jobRounds, this.skillSet);
+            this.hash = h;
+        }
+        return h;
     }
 }
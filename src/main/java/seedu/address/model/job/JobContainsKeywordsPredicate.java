@@ -1,26 +1,41 @@
 package seedu.address.model.job;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
+import seedu.address.model.search.FuzzyKeyword;
+import seedu.address.model.search.PartialKeyword;
+import seedu.address.model.search.SearchTokens;
 
 /**
  * Tests that am {@code Application}'s {@code Job} matches any of the keywords given.
  */
 public class JobContainsKeywordsPredicate implements Predicate<Job> {
     private final List<String> keywords;
+    // Normalized once, rather than for every job tested.
+    private final List<String> keywordTokens;
 
     public JobContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordTokens = SearchTokens.normalize(SearchTokens.plainKeywords(keywords));
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Tests the keywords against the details of {@code job} directly. Commands filter the lists of the model
+     * through its search indexes instead, which match by the same rules.
+     */
     @Override
     public boolean test(Job job) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(Messages.format(job), keyword));
+        Set<String> tokens = job.getSearchTokens();
+        return keywordTokens.stream().anyMatch(tokens::contains)
+                || FuzzyKeyword.anyMatches(keywords, job.getJobTitle().getSearchTokens())
+                || PartialKeyword.anyMatches(keywords, job.getJobTitle().toString());
     }
 
     @Override
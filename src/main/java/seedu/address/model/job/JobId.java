@@ -0,0 +1,8 @@
+package seedu.address.model.job;
+
+/**
+ * Represents a stable surrogate identifier of a {@code Job}, which is kept when the job is edited.
+ * Guarantees: immutable; only meaningful within the registry that assigned it.
+ */
+public record JobId(int value) {
+}
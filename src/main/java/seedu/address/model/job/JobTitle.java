@@ -3,12 +3,16 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.SearchTokens;
 
 /**
  * Represents a job title in a {@Code Job}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidJobTitle(String)}
  */
-public record JobTitle(String jobTitle) {
+public final class JobTitle {
     public static final String MESSAGE_CONSTRAINTS = "Job title should only contain alphanumeric characters and spaces,"
             + " and it should not be blank";
 
@@ -18,14 +22,35 @@ public record JobTitle(String jobTitle) {
      */
     public static final String VALIDATION_REGEX = "\\p{Alnum}[\\p{Alnum} ]*";
 
+    private final String jobTitle;
+
+    // Derived from jobTitle on first use, as job titles are immutable.
+    private String displayTitle;
+    private Set<String> searchTokens;
+
     /**
      * Constructs a {@code JobTitle}.
      *
      * @param jobTitle A valid job title.
      */
-    public JobTitle {
+    public JobTitle(String jobTitle) {
+        this(jobTitle, false);
+    }
+
+    private JobTitle(String jobTitle, boolean isKnownValid) {
         requireNonNull(jobTitle);
-        checkArgument(isValidJobTitle(jobTitle), MESSAGE_CONSTRAINTS);
+        if (!isKnownValid) {
+            checkArgument(isValidJobTitle(jobTitle), MESSAGE_CONSTRAINTS);
+        }
+        this.jobTitle = jobTitle;
+    }
+
+    /**
+     * Returns a {@code JobTitle} of {@code jobTitle} without checking it again, for job titles that were valid when
+     * they were saved and are read back from a checksummed copy, such as the snapshot cache.
+     */
+    public static JobTitle ofValidated(String jobTitle) {
+        return new JobTitle(jobTitle, true);
     }
 
     /**
@@ -38,6 +63,27 @@ public record JobTitle(String jobTitle) {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the job title as entered.
+     *
+     * @return The job title.
+     */
+    public String jobTitle() {
+        return this.jobTitle;
+    }
+
+    /**
+     * Returns the case-folded words of this job title.
+     *
+     * @return The search tokens of this job title.
+     */
+    public Set<String> getSearchTokens() {
+        if (this.searchTokens == null) {
+            this.searchTokens = Set.copyOf(SearchTokens.words(this));
+        }
+        return this.searchTokens;
+    }
+
     /**
      * Returns the string representation of this job title.
      *
@@ -45,7 +91,10 @@ public record JobTitle(String jobTitle) {
      */
     @Override
     public String toString() {
-        return StringUtil.toTitleCase(this.jobTitle);
+        if (this.displayTitle == null) {
+            this.displayTitle = StringUtil.toTitleCase(this.jobTitle);
+        }
+        return this.displayTitle;
     }
 
     /**
@@ -66,4 +115,14 @@ public record JobTitle(String jobTitle) {
         return this.jobTitle.equals(otherJobTitle.jobTitle);
     }
 
+    /**
+     * Returns the hash code of this job title.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.jobTitle.hashCode();
+    }
+
 }
@@ -3,8 +3,10 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,13 +22,15 @@ import seedu.address.model.job.exceptions.JobNotFoundException;
 public class UniqueJobList implements Iterable<Job> {
 
     private final ObservableList<Job> internalList = FXCollections.observableArrayList();
+    // Identity index of internalList, see Job#isSameJob(Job).
+    private final Set<JobTitle> jobTitles = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent job as the given argument.
      */
     public boolean contains(Job toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSameJob);
+        return this.jobTitles.contains(toCheck.getJobTitle());
     }
 
     /**
@@ -38,6 +42,7 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
         this.internalList.add(toAdd);
+        this.jobTitles.add(toAdd.getJobTitle());
     }
 
     /**
@@ -58,6 +63,8 @@ public class UniqueJobList implements Iterable<Job> {
         }
 
         this.internalList.set(index, editedJob);
+        this.jobTitles.remove(target.getJobTitle());
+        this.jobTitles.add(editedJob.getJobTitle());
     }
 
     /**
@@ -68,11 +75,14 @@ public class UniqueJobList implements Iterable<Job> {
         if (!this.internalList.remove(toRemove)) {
             throw new JobNotFoundException();
         }
+        this.jobTitles.remove(toRemove.getJobTitle());
     }
 
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
         this.internalList.setAll(replacement.internalList);
+        this.jobTitles.clear();
+        this.jobTitles.addAll(replacement.jobTitles);
     }
 
     /**
@@ -85,6 +95,8 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
         this.internalList.setAll(jobs);
+        this.jobTitles.clear();
+        jobs.forEach(job -> this.jobTitles.add(job.getJobTitle()));
     }
 
     /**
@@ -126,11 +138,10 @@ public class UniqueJobList implements Iterable<Job> {
      * Returns true if {@code jobs} contains only unique jobs.
      */
     private boolean areJobsUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
+        Set<JobTitle> seenJobTitles = new HashSet<>();
+        for (Job job : jobs) {
+            if (!seenJobTitles.add(job.getJobTitle())) {
+                return false;
             }
         }
         return true;
@@ -38,11 +38,25 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isKnownValid) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (!isKnownValid) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns a {@code Email} of {@code email} without checking it again, for email addresses that were valid when they
+     * were saved and are read back from a checksummed copy, such as the snapshot cache.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -3,7 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.SearchTokens;
 
 /**
  * Represents a Person's name in the address book. Guarantees: immutable; is
@@ -22,17 +25,35 @@ public class Name {
 
     public final String fullName;
 
+    // Derived from fullName on first use, as names are immutable.
+    private String displayName;
+    private Set<String> searchTokens;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isKnownValid) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (!isKnownValid) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without checking it again, for names that were valid when they
+     * were saved and are read back from a checksummed copy, such as the snapshot cache.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -40,9 +61,22 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-folded words of this name.
+     */
+    public Set<String> getSearchTokens() {
+        if (searchTokens == null) {
+            searchTokens = Set.copyOf(SearchTokens.words(this));
+        }
+        return searchTokens;
+    }
+
     @Override
     public String toString() {
-        return StringUtil.toTitleCase(fullName);
+        if (displayName == null) {
+            displayName = StringUtil.toTitleCase(fullName);
+        }
+        return displayName;
     }
 
     @Override
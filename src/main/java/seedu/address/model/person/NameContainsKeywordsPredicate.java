@@ -1,26 +1,41 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.search.PersonSearchPredicate;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s profile matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements PersonSearchPredicate {
     private final List<String> keywords;
+    private final Predicate<Person> matcher;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = PersonField.ANY.matcherOf(keywords);
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public Map<PersonField, List<String>> getKeywordsByField() {
+        return Map.of(PersonField.ANY, keywords);
+    }
+
+    /**
+     * Tests the keywords against the profile of {@code person} directly. Commands filter the lists of the model
+     * through its search indexes instead, which match by the same rules.
+     */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(Messages.format(person), keyword));
+        return matcher.test(person);
     }
 
     @Override
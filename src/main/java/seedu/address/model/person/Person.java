@@ -8,7 +8,9 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.SearchTokens;
 import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillSet;
 
 /**
  * Represents a Person in the address book. Guarantees: details are present and
@@ -26,6 +28,11 @@ public class Person {
     private final Address address;
     private final School school;
     private final Set<Skill> skills = new HashSet<>();
+    private final SkillSet skillSet;
+
+    // Derived from the fields above on first use, as persons are immutable.
+    private int hash;
+    private Set<String> searchTokens;
 
     /**
      * Every field must be present and not null.
@@ -40,6 +47,7 @@ public class Person {
         this.school = school;
         this.degree = degree;
         this.skills.addAll(skills);
+        this.skillSet = SkillSet.of(skills);
     }
 
     public Name getName() {
@@ -74,6 +82,23 @@ public class Person {
         return Collections.unmodifiableSet(this.skills);
     }
 
+    /**
+     * Returns the skills of this person as a bitset.
+     */
+    public SkillSet getSkillSet() {
+        return this.skillSet;
+    }
+
+    /**
+     * Returns the search tokens of this person, as given by {@link SearchTokens#of(Person)}.
+     */
+    public Set<String> getSearchTokens() {
+        if (this.searchTokens == null) {
+            this.searchTokens = Set.copyOf(SearchTokens.of(this));
+        }
+        return this.searchTokens;
+    }
+
     /**
      * Returns true if both persons have the same name. This defines a weaker notion
      * of equality between two persons.
@@ -88,19 +113,27 @@ public class Person {
      */
     @Override
     public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
         if (!(other instanceof Person otherPerson)) {
             return false;
         }
         return this.name.equals(otherPerson.name) && this.phone.equals(otherPerson.phone)
                 && this.email.equals(otherPerson.email) && this.address.equals(otherPerson.address)
                 && school.equals(otherPerson.school) && degree.equals(otherPerson.degree)
-                && this.skills.equals(otherPerson.skills);
+                && this.skillSet.equals(otherPerson.skillSet);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, skills, school, degree);
+        int h = this.hash;
+        if (h == 0) {
+            h = Objects.hash(name, phone, email, address, skillSet, school, degree);
+            this.hash = h;
+        }
+        return h;
     }
 
     /**
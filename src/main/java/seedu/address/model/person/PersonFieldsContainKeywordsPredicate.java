@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.search.PersonSearchPredicate;
+
+/**
+ * Tests that, for every given field, a {@code Person}'s field matches any of the keywords given for it.
+ */
+public class PersonFieldsContainKeywordsPredicate implements PersonSearchPredicate {
+    private final Map<PersonField, List<String>> keywordsByField;
+    private final List<Predicate<Person>> matchers;
+
+    /**
+     * Creates a predicate searching each field in {@code keywordsByField} for its keywords.
+     */
+    public PersonFieldsContainKeywordsPredicate(Map<PersonField, List<String>> keywordsByField) {
+        requireNonNull(keywordsByField);
+        this.keywordsByField = keywordsByField.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(keywordsByField));
+        this.matchers = this.keywordsByField.entrySet().stream()
+                .map(entry -> entry.getKey().matcherOf(entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public Map<PersonField, List<String>> getKeywordsByField() {
+        return keywordsByField;
+    }
+
+    /**
+     * Tests the keywords against the fields of {@code person} directly. Commands filter the lists of the model
+     * through its search indexes instead, which match by the same rules.
+     */
+    @Override
+    public boolean test(Person person) {
+        return matchers.stream().allMatch(matcher -> matcher.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonFieldsContainKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+
+        return keywordsByField.equals(otherPredicate.keywordsByField);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywordsByField", keywordsByField).toString();
+    }
+}
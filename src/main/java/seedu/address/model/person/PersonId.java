@@ -0,0 +1,8 @@
+package seedu.address.model.person;
+
+/**
+ * Represents a stable surrogate identifier of a {@code Person}, which is kept when the person is edited.
+ * Guarantees: immutable; only meaningful within the registry that assigned it.
+ */
+public record PersonId(int value) {
+}
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,13 +26,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    // Identity index of internalList, see Person#isSamePerson(Person).
+    private final Set<Name> names = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSamePerson);
+        return this.names.contains(toCheck.getName());
     }
 
     /**
@@ -43,6 +47,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         this.internalList.add(toAdd);
+        this.names.add(toAdd.getName());
     }
 
     /**
@@ -62,6 +67,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         this.internalList.set(index, editedPerson);
+        this.names.remove(target.getName());
+        this.names.add(editedPerson.getName());
     }
 
     /**
@@ -73,11 +80,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!this.internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        this.names.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         this.internalList.setAll(replacement.internalList);
+        this.names.clear();
+        this.names.addAll(replacement.names);
     }
 
     /**
@@ -90,6 +100,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         this.internalList.setAll(persons);
+        this.names.clear();
+        persons.forEach(person -> this.names.add(person.getName()));
     }
 
     /**
@@ -131,11 +143,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,133 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of terms, which finds all terms within an edit distance of a query without comparing the
+ * query against every term.
+ * Each child of a node is keyed by its distance to that node, so by the triangle inequality a search only needs to
+ * descend into children whose key is within the maximum distance of the query's own distance to the node.
+ */
+public class BkTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Represents a term found by a search, and its edit distance to the query.
+     */
+    public record Match(String term, int distance) {
+        /** Orders matches from the closest to the furthest, then alphabetically. */
+        public static final Comparator<Match> CLOSEST_FIRST = Comparator.comparingInt(Match::distance)
+                .thenComparing(Match::term);
+    }
+
+    /**
+     * Adds {@code term} to the tree. Returns false if the tree already contains it.
+     */
+    public boolean add(String term) {
+        requireNonNull(term);
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns every term within {@code maxDistance} edits of {@code query}, closest first.
+     */
+    public List<Match> search(String query, int maxDistance) {
+        requireNonNull(query);
+        List<Match> matches = new ArrayList<>();
+        if (root == null || maxDistance < 0) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = distance(query, node.term);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.term, distance));
+            }
+            node.children.forEach((childDistance, child) -> {
+                if (Math.abs(childDistance - distance) <= maxDistance) {
+                    toVisit.push(child);
+                }
+            });
+        }
+        matches.sort(Match.CLOSEST_FIRST);
+        return matches;
+    }
+
+    /**
+     * Removes every term from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of terms in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the least number of single
+     * character insertions, deletions and substitutions that turn one into the other.
+     */
+    public static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static class Node {
+        private final String term;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a keyword that also matches words within a small number of typos of it.
+ * A keyword is fuzzy if it ends with {@code ~}, optionally followed by the maximum edit distance, e.g. {@code alise~}
+ * or {@code alise~2}. Without an explicit distance, longer keywords tolerate more typos.
+ *
+ * @param term        The case-folded keyword without its suffix.
+ * @param maxDistance The maximum number of edits between the keyword and a matching word.
+ */
+public record FuzzyKeyword(String term, int maxDistance) {
+    public static final int MAX_DISTANCE = 3;
+
+    private static final Pattern FUZZY_KEYWORD_FORMAT = Pattern.compile("(?<term>.+)~(?<distance>[0-"
+            + MAX_DISTANCE + "])?");
+
+    /**
+     * Returns the fuzzy keyword that {@code keyword} denotes, or an empty optional if it is an ordinary keyword.
+     */
+    public static Optional<FuzzyKeyword> parse(String keyword) {
+        requireNonNull(keyword);
+        Matcher matcher = FUZZY_KEYWORD_FORMAT.matcher(SearchTokens.normalize(keyword));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        String term = matcher.group("term");
+        String distance = matcher.group("distance");
+        return Optional.of(new FuzzyKeyword(term,
+                distance == null ? defaultDistance(term) : Integer.parseInt(distance)));
+    }
+
+    /**
+     * Returns true if any of the fuzzy keywords among {@code keywords} matches any of {@code words}.
+     */
+    public static boolean anyMatches(Collection<String> keywords, Set<String> words) {
+        requireNonNull(words);
+        return keywords.stream()
+                .flatMap(keyword -> parse(keyword).stream())
+                .anyMatch(fuzzyKeyword -> words.stream().anyMatch(fuzzyKeyword::matches));
+    }
+
+    /**
+     * Returns true if {@code word} is within {@code maxDistance} edits of this keyword.
+     */
+    public boolean matches(String word) {
+        return BkTree.distance(term, word) <= maxDistance;
+    }
+
+    private static int defaultDistance(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from each substring of up to {@value #GRAM_LENGTH} characters of a text to the items whose text
+ * contains it, which finds the items containing a given substring without scanning every item.
+ * A substring of up to {@value #GRAM_LENGTH} characters is looked up directly. A longer substring can only be
+ * contained by items that have all of its trigrams, which are then checked for the substring itself.
+ *
+ * @param <T> Type of the indexed items, which must not change their text while indexed.
+ */
+public class NgramIndex<T> {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> textOf;
+    private final TokenIndex<T> itemsByGram;
+
+    /**
+     * Creates an empty index over items whose text is given by {@code textOf}. Texts are case-folded.
+     */
+    public NgramIndex(Function<T, String> textOf) {
+        requireNonNull(textOf);
+        this.textOf = item -> SearchTokens.normalize(textOf.apply(item));
+        this.itemsByGram = new TokenIndex<>(item -> gramsOf(this.textOf.apply(item)));
+    }
+
+    /**
+     * Adds {@code item} to the index.
+     */
+    public void add(T item) {
+        itemsByGram.add(item);
+    }
+
+    /**
+     * Removes {@code item} from the index.
+     */
+    public void remove(T item) {
+        itemsByGram.remove(item);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code items}.
+     */
+    public void rebuild(Iterable<? extends T> items) {
+        itemsByGram.rebuild(items);
+    }
+
+    /**
+     * Returns a predicate that tests whether an indexed item's text contains {@code substring}, ignoring case.
+     * The predicate checks the postings of the rarest grams first, so that most items are rejected by one lookup,
+     * and keeps up with later changes to the index.
+     */
+    public Predicate<T> containing(String substring) {
+        String normalizedSubstring = SearchTokens.normalize(substring);
+        List<String> grams = queryGramsOf(normalizedSubstring);
+        if (normalizedSubstring.length() <= GRAM_LENGTH) {
+            return item -> itemsByGram.containsAny(item, grams);
+        }
+        return item -> grams.stream().allMatch(gram -> itemsByGram.get(gram).contains(item))
+                && textOf.apply(item).contains(normalizedSubstring);
+    }
+
+    /**
+     * Returns a predicate that tests whether an indexed item's text is matched by {@code keyword}. Like
+     * {@link #containing(String)}, the predicate keeps up with later changes to the index.
+     */
+    public Predicate<T> matching(PartialKeyword keyword) {
+        requireNonNull(keyword);
+        Predicate<T> containsKeyword = containing(keyword.text());
+        return keyword.isAnywhere()
+                ? containsKeyword
+                : item -> containsKeyword.test(item) && keyword.matches(textOf.apply(item));
+    }
+
+    /**
+     * Returns an upper bound of the number of items whose text contains {@code substring}, i.e. the number of
+     * items having its rarest gram.
+     */
+    public int countCandidates(String substring) {
+        List<String> grams = queryGramsOf(SearchTokens.normalize(substring));
+        return grams.isEmpty() ? 0 : itemsByGram.get(grams.get(0)).size();
+    }
+
+    /**
+     * Returns the items whose text contains {@code substring}, ignoring case, in the order they were indexed.
+     * Only the items having the rarest gram of the substring are checked.
+     */
+    public List<T> findContaining(String substring) {
+        String normalizedSubstring = SearchTokens.normalize(substring);
+        List<String> grams = queryGramsOf(normalizedSubstring);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        return itemsByGram.get(grams.get(0)).stream()
+                .filter(containing(normalizedSubstring))
+                .toList();
+    }
+
+    /**
+     * Returns the grams to look up for {@code substring}: the substring itself if it is short enough, or else its
+     * distinct trigrams, rarest first.
+     */
+    private List<String> queryGramsOf(String substring) {
+        if (substring.isEmpty()) {
+            return List.of();
+        }
+        if (substring.length() <= GRAM_LENGTH) {
+            return List.of(substring);
+        }
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= substring.length(); i++) {
+            trigrams.add(substring.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams.stream()
+                .sorted(Comparator.comparingInt(gram -> itemsByGram.get(gram).size()))
+                .toList();
+    }
+
+    /**
+     * Returns every substring of {@code text} of 1 to {@value #GRAM_LENGTH} characters.
+     */
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            for (int length = 1; length <= GRAM_LENGTH && i + length <= text.length(); length++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+}
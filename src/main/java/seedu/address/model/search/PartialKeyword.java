@@ -0,0 +1,53 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a keyword that also matches part of a word.
+ * A keyword ending with {@code *} matches words that start with it, e.g. {@code chris*} matches {@code Christopher},
+ * while a keyword also starting with {@code *} matches text that contains it anywhere, e.g. {@code *topher*}.
+ *
+ * @param text       The case-folded keyword without its wildcards.
+ * @param isAnywhere Whether the keyword may appear anywhere in a word, rather than only at its start.
+ */
+public record PartialKeyword(String text, boolean isAnywhere) {
+    private static final Pattern PARTIAL_KEYWORD_FORMAT = Pattern.compile("(?<anywhere>\\*)?(?<text>[^*]+)\\*");
+
+    /**
+     * Returns the partial keyword that {@code keyword} denotes, or an empty optional if it is an ordinary keyword.
+     */
+    public static Optional<PartialKeyword> parse(String keyword) {
+        requireNonNull(keyword);
+        Matcher matcher = PARTIAL_KEYWORD_FORMAT.matcher(SearchTokens.normalize(keyword));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PartialKeyword(matcher.group("text"), matcher.group("anywhere") != null));
+    }
+
+    /**
+     * Returns true if any of the partial keywords among {@code keywords} matches {@code text}.
+     */
+    public static boolean anyMatches(Collection<String> keywords, String text) {
+        requireNonNull(text);
+        return keywords.stream()
+                .flatMap(keyword -> parse(keyword).stream())
+                .anyMatch(partialKeyword -> partialKeyword.matches(text));
+    }
+
+    /**
+     * Returns true if this keyword matches {@code text}, ignoring case.
+     */
+    public boolean matches(String text) {
+        String normalizedText = SearchTokens.normalize(text);
+        if (isAnywhere) {
+            return normalizedText.contains(this.text);
+        }
+        return SearchTokens.words(normalizedText).stream().anyMatch(word -> word.startsWith(this.text));
+    }
+}
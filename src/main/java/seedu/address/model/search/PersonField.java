@@ -0,0 +1,112 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+
+/**
+ * A part of a person's profile that keyword searches can be scoped to.
+ * Text fields are matched word by word, while exact fields are only matched by their whole value. A field may also
+ * look up a keyword by another token than its case-folded form, such as the sound of a name.
+ */
+public enum PersonField {
+    /** Every searchable word of the profile. */
+    ANY(Person::getSearchTokens, false),
+    NAME(person -> person.getName().getSearchTokens(), false),
+    /** The sound of each word of the name. */
+    NAME_SOUND(person -> person.getName().getSearchTokens().stream()
+            .map(Soundex::encode)
+            .filter(code -> !code.isEmpty())
+            .collect(Collectors.toSet()), false, Soundex::encode),
+    EMAIL(person -> SearchTokens.exact(person.getEmail()), true),
+    SCHOOL(person -> SearchTokens.words(person.getSchool()), false),
+    DEGREE(person -> SearchTokens.words(person.getDegree()), false),
+    /** The name of each skill. Skills are looked up in the skill index of the address book. */
+    SKILL(person -> person.getSkills().stream()
+            .map(Skill::skillName)
+            .collect(Collectors.toSet()), true);
+
+    private final Function<Person, Set<String>> tokensOf;
+    private final boolean isExact;
+    private final Function<String, String> tokenOfKeyword;
+
+    PersonField(Function<Person, Set<String>> tokensOf, boolean isExact) {
+        this(tokensOf, isExact, SearchTokens::normalize);
+    }
+
+    PersonField(Function<Person, Set<String>> tokensOf, boolean isExact, Function<String, String> tokenOfKeyword) {
+        this.tokensOf = tokensOf;
+        this.isExact = isExact;
+        this.tokenOfKeyword = tokenOfKeyword;
+    }
+
+    /**
+     * Returns the search tokens of this field of {@code person}.
+     */
+    public Set<String> tokensOf(Person person) {
+        return tokensOf.apply(person);
+    }
+
+    /**
+     * Returns the search tokens to look up for {@code keywords} in this field, without duplicates or blank tokens.
+     */
+    public List<String> tokensOf(Collection<String> keywords) {
+        return keywords.stream()
+                .map(tokenOfKeyword)
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns true if fuzzy and partial keywords for this field are matched against the name.
+     */
+    public boolean isNameSearched() {
+        return this == ANY || this == NAME;
+    }
+
+    /**
+     * Returns the search tokens to look up for the keywords among {@code keywords} that are matched as they are,
+     * which is all of them unless fuzzy and partial keywords are matched against the name instead.
+     */
+    public List<String> plainTokensOf(Collection<String> keywords) {
+        return tokensOf(isNameSearched() ? SearchTokens.plainKeywords(keywords) : keywords);
+    }
+
+    /**
+     * Returns a predicate that tests whether this field of a person matches any of {@code keywords}.
+     * This defines what a search matches; the search indexes of the address book find the same persons faster.
+     */
+    public Predicate<Person> matcherOf(Collection<String> keywords) {
+        List<String> keywordList = List.copyOf(keywords);
+        // Derived once, rather than for every person tested.
+        List<String> plainTokens = plainTokensOf(keywordList);
+        boolean isNameSearched = isNameSearched();
+        return person -> {
+            Set<String> tokens = tokensOf(person);
+            return plainTokens.stream().anyMatch(tokens::contains)
+                    || (isNameSearched
+                            && (FuzzyKeyword.anyMatches(keywordList, person.getName().getSearchTokens())
+                            || PartialKeyword.anyMatches(keywordList, person.getName().fullName)));
+        };
+    }
+
+    /**
+     * Returns the keywords to look up for a value entered for this field: the whole value for exact fields, or
+     * each of its words for text fields.
+     */
+    public List<String> keywordsOf(String value) {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            return List.of();
+        }
+        return isExact ? List.of(trimmedValue) : Arrays.asList(trimmedValue.split("\\s+"));
+    }
+}
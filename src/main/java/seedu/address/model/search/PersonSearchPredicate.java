@@ -0,0 +1,19 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A keyword search over persons that the model can answer from its search indexes.
+ * A person matches if, for every field searched, they have any of the keywords for that field.
+ */
+public interface PersonSearchPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the keywords searched for, by the field they are searched in.
+     */
+    Map<PersonField, List<String>> getKeywordsByField();
+}
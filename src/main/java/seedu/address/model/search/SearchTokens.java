@@ -0,0 +1,109 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Splits the searchable fields of persons and jobs into case-folded search tokens.
+ * A keyword matches a person or job exactly when its normalized form is one of their search tokens.
+ */
+public final class SearchTokens {
+
+    private SearchTokens() {
+    } // prevents instantiation
+
+    /**
+     * Returns the case-folded form of {@code keyword} that is compared against search tokens.
+     */
+    public static String normalize(String keyword) {
+        requireNonNull(keyword);
+        return keyword.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the case-folded forms of {@code keywords}, without duplicates or blank keywords.
+     */
+    public static List<String> normalize(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream()
+                .map(SearchTokens::normalize)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns the keywords among {@code keywords} that are matched as they are, i.e. that are neither fuzzy nor
+     * partial.
+     */
+    public static List<String> plainKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream()
+                .filter(keyword -> FuzzyKeyword.parse(keyword).isEmpty() && PartialKeyword.parse(keyword).isEmpty())
+                .toList();
+    }
+
+    /**
+     * Returns the search tokens of {@code person}: the whitespace-separated words of their name, phone, email,
+     * address, school, degree and skills.
+     */
+    public static Set<String> of(Person person) {
+        requireNonNull(person);
+        Set<String> tokens = new HashSet<>();
+        addWords(tokens, person.getName());
+        addWords(tokens, person.getPhone());
+        addWords(tokens, person.getEmail());
+        addWords(tokens, person.getAddress());
+        addWords(tokens, person.getSchool());
+        addWords(tokens, person.getDegree());
+        person.getSkills().forEach(skill -> addWords(tokens, skill));
+        return tokens;
+    }
+
+    /**
+     * Returns the search tokens of {@code job}: the whitespace-separated words of its title, number of rounds and
+     * skills.
+     */
+    public static Set<String> of(Job job) {
+        requireNonNull(job);
+        Set<String> tokens = new HashSet<>();
+        addWords(tokens, job.getJobTitle());
+        addWords(tokens, job.getJobRounds());
+        job.getSkills().forEach(skill -> addWords(tokens, skill));
+        return tokens;
+    }
+
+    /**
+     * Returns the case-folded whitespace-separated words of {@code field}, or no words if it is absent.
+     */
+    public static Set<String> words(Object field) {
+        Set<String> tokens = new HashSet<>();
+        addWords(tokens, field);
+        return tokens;
+    }
+
+    /**
+     * Returns the whole case-folded value of {@code field} as a single token, or no tokens if it is absent.
+     */
+    public static Set<String> exact(Object field) {
+        return field == null ? Set.of() : Set.of(normalize(field.toString()));
+    }
+
+    private static void addWords(Set<String> tokens, Object field) {
+        if (field == null) {
+            return;
+        }
+        for (String word : field.toString().split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(normalize(word));
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes words with the American Soundex algorithm, so that names which sound alike, such as {@code Jon Smyth}
+ * and {@code John Smith}, have the same codes.
+ */
+public final class Soundex {
+    public static final int CODE_LENGTH = 4;
+
+    // Digit of each letter from A to Z. Vowels (0) separate letters with the same digit, while H and W (-) do not.
+    private static final String DIGITS = "01230120022455012623010202";
+    private static final char IGNORED = '-';
+
+    private Soundex() {
+    } // prevents instantiation
+
+    /**
+     * Returns the Soundex code of {@code word}, e.g. {@code S530} for {@code Smith}, or an empty string if it has no
+     * letters. Characters other than the letters A to Z are ignored.
+     */
+    public static String encode(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < CODE_LENGTH; i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+
+            char digit = letter == 'H' || letter == 'W' ? IGNORED : DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+                previousDigit = digit;
+                continue;
+            }
+            if (digit == IGNORED) {
+                continue;
+            }
+            if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            previousDigit = digit;
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+}
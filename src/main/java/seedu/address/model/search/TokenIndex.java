@@ -0,0 +1,160 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from each search token to the items that have it.
+ * Postings are kept in the order items were indexed. An index may also keep its tokens in a {@code BkTree}, to find
+ * the tokens similar to a misspelt one.
+ *
+ * @param <T> Type of the indexed items, which must not change their tokens while indexed.
+ */
+public class TokenIndex<T> {
+    private final Function<T, Set<String>> tokensOf;
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    // Every token in the postings above, and possibly tokens that no item has any more. Null if similar tokens are
+    // not searched for.
+    private final BkTree vocabulary;
+    private int staleTokenCount;
+
+    /**
+     * Creates an empty index over items whose tokens are given by {@code tokensOf}.
+     */
+    public TokenIndex(Function<T, Set<String>> tokensOf) {
+        this(tokensOf, null);
+    }
+
+    private TokenIndex(Function<T, Set<String>> tokensOf, BkTree vocabulary) {
+        requireNonNull(tokensOf);
+        this.tokensOf = tokensOf;
+        this.vocabulary = vocabulary;
+    }
+
+    /**
+     * Creates an empty index over items whose tokens are given by {@code tokensOf}, which can also find the tokens
+     * similar to a given one.
+     */
+    public static <T> TokenIndex<T> withSimilarTokenSearch(Function<T, Set<String>> tokensOf) {
+        return new TokenIndex<>(tokensOf, new BkTree());
+    }
+
+    /**
+     * Adds {@code item} to the postings of each of its tokens.
+     */
+    public void add(T item) {
+        tokensOf.apply(item).forEach(token -> postings.computeIfAbsent(token, this::addToVocabulary).add(item));
+    }
+
+    /**
+     * Removes {@code item} from the postings of each of its tokens.
+     */
+    public void remove(T item) {
+        tokensOf.apply(item).forEach(token -> {
+            Set<T> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(item);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                    removeFromVocabulary();
+                }
+            }
+        });
+    }
+
+    /**
+     * Discards the current contents and indexes every item in {@code items}, in order.
+     */
+    public void rebuild(Iterable<? extends T> items) {
+        postings.clear();
+        if (vocabulary != null) {
+            vocabulary.clear();
+            staleTokenCount = 0;
+        }
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the items that have {@code token}.
+     */
+    public Set<T> get(String token) {
+        return Collections.unmodifiableSet(postings.getOrDefault(token, Collections.emptySet()));
+    }
+
+    /**
+     * Returns true if {@code item} is indexed under any of {@code tokens}.
+     */
+    public boolean containsAny(T item, Collection<String> tokens) {
+        requireNonNull(tokens);
+        for (String token : tokens) {
+            Set<T> posting = postings.get(token);
+            if (posting != null && posting.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the tokens that some item has and that are within {@code maxDistance} edits of {@code token}, closest
+     * first. This index must have been created with {@link #withSimilarTokenSearch(Function)}.
+     */
+    public List<String> findSimilarTokens(String token, int maxDistance) {
+        requireNonNull(token);
+        if (vocabulary == null) {
+            throw new UnsupportedOperationException("This index does not search for similar tokens");
+        }
+        return vocabulary.search(token, maxDistance).stream()
+                .map(BkTree.Match::term)
+                .filter(postings::containsKey)
+                .toList();
+    }
+
+    /**
+     * Returns the items that have at least one of {@code tokens}, without duplicates.
+     * Only the postings of {@code tokens} are visited.
+     */
+    public List<T> findWithAny(Collection<String> tokens) {
+        requireNonNull(tokens);
+        Set<T> matches = new LinkedHashSet<>();
+        tokens.forEach(token -> matches.addAll(postings.getOrDefault(token, Collections.emptySet())));
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns a new posting for {@code token}, which no item has yet, after adding it to the vocabulary.
+     */
+    private Set<T> addToVocabulary(String token) {
+        if (vocabulary != null && !vocabulary.add(token)) {
+            // The token was left in the vocabulary when the last item with it was removed.
+            staleTokenCount--;
+        }
+        return new LinkedHashSet<>();
+    }
+
+    /**
+     * Records that no item has a token in the vocabulary any more. As terms cannot be removed from a BK-tree, the
+     * vocabulary is rebuilt once most of its tokens are stale.
+     */
+    private void removeFromVocabulary() {
+        if (vocabulary == null) {
+            return;
+        }
+        staleTokenCount++;
+        if (staleTokenCount > postings.size()) {
+            vocabulary.clear();
+            postings.keySet().forEach(vocabulary::add);
+            staleTokenCount = 0;
+        }
+    }
+}
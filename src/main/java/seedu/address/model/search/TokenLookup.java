@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.skill.SkillIndex;
+import seedu.address.model.skill.SkillSet;
+
+/**
+ * The tokens, skills and partial keywords to look up in one or more indexes. An item matches the lookup if any of the
+ * indexes has it under any of the tokens, skills or partial keywords looked up in that index.
+ *
+ * @param <T> Type of the indexed items.
+ */
+public class TokenLookup<T> {
+    private final List<Predicate<T>> parts = new ArrayList<>();
+    private int matchCount;
+
+    /**
+     * Looks up {@code tokensToLookUp} in {@code index}, in addition to what is already looked up.
+     */
+    public TokenLookup<T> add(TokenIndex<T> index, Collection<String> tokensToLookUp) {
+        requireNonNull(index);
+        requireNonNull(tokensToLookUp);
+        if (!tokensToLookUp.isEmpty()) {
+            List<String> tokens = List.copyOf(tokensToLookUp);
+            parts.add(item -> index.containsAny(item, tokens));
+            matchCount += tokens.stream().mapToInt(token -> index.get(token).size()).sum();
+        }
+        return this;
+    }
+
+    /**
+     * Looks up {@code skills} in {@code index}, in addition to what is already looked up.
+     */
+    public TokenLookup<T> add(SkillIndex<T> index, SkillSet skills) {
+        requireNonNull(index);
+        requireNonNull(skills);
+        if (!skills.isEmpty()) {
+            parts.add(item -> index.containsAny(item, skills));
+            matchCount += index.countPostings(skills);
+        }
+        return this;
+    }
+
+    /**
+     * Looks up {@code keywords} in {@code index}, in addition to what is already looked up.
+     */
+    public TokenLookup<T> add(NgramIndex<T> index, Collection<PartialKeyword> keywords) {
+        requireNonNull(index);
+        requireNonNull(keywords);
+        for (PartialKeyword keyword : keywords) {
+            parts.add(index.matching(keyword));
+            matchCount += index.countCandidates(keyword.text());
+        }
+        return this;
+    }
+
+    /**
+     * Returns true if {@code item} matches this lookup.
+     */
+    public boolean matches(T item) {
+        for (Predicate<T> part : parts) {
+            if (part.test(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an upper bound of the number of items matching this lookup, as of when it was created.
+     */
+    public int matchCount() {
+        return matchCount;
+    }
+}
@@ -31,6 +31,9 @@ public record Skill(String skillName) {
 
     @Override
     public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
         if (!(other instanceof Skill otherSkill)) {
             return false;
         }
@@ -0,0 +1,58 @@
+package seedu.address.model.skill;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps every skill that has been seen to a dense, non-negative integer ID, so that sets of skills can be stored as
+ * bitsets (see {@link SkillSet}).
+ * IDs are assigned on first use and never reused, so they are stable for the lifetime of the application.
+ */
+public final class SkillDictionary {
+    /** ID returned by {@link #find(Skill)} for skills that have never been seen. */
+    public static final int UNKNOWN_ID = -1;
+
+    private static final Map<Skill, Integer> ids = new ConcurrentHashMap<>();
+    private static final List<Skill> skills = new ArrayList<>();
+
+    private SkillDictionary() {
+    } // prevents instantiation
+
+    /**
+     * Returns the ID of {@code skill}, assigning the next free ID if the skill has never been seen.
+     */
+    public static int idOf(Skill skill) {
+        requireNonNull(skill);
+        Integer id = ids.get(skill);
+        if (id != null) {
+            return id;
+        }
+        synchronized (skills) {
+            return ids.computeIfAbsent(skill, newSkill -> {
+                skills.add(newSkill);
+                return skills.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Returns the ID of {@code skill}, or {@link #UNKNOWN_ID} if the skill has never been seen.
+     */
+    public static int find(Skill skill) {
+        requireNonNull(skill);
+        return ids.getOrDefault(skill, UNKNOWN_ID);
+    }
+
+    /**
+     * Returns the skill with the given {@code id}, which must have been assigned by {@link #idOf(Skill)}.
+     */
+    public static Skill skillOf(int id) {
+        synchronized (skills) {
+            return skills.get(id);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.model.skill;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from each skill to the items that have it.
+ * Postings are kept in the order items were indexed, and are addressed directly by skill dictionary ID.
+ *
+ * @param <T> Type of the indexed items, which must not change their skills while indexed.
+ */
+public class SkillIndex<T> {
+    private final Function<T, SkillSet> skillsOf;
+    private final List<Set<T>> postings = new ArrayList<>();
+
+    /**
+     * Creates an empty index over items whose skills are given by {@code skillsOf}.
+     */
+    public SkillIndex(Function<T, SkillSet> skillsOf) {
+        requireNonNull(skillsOf);
+        this.skillsOf = skillsOf;
+    }
+
+    /**
+     * Adds {@code item} to the postings of each of its skills.
+     */
+    public void add(T item) {
+        skillsOf.apply(item).forEachId(id -> {
+            while (postings.size() <= id) {
+                postings.add(null);
+            }
+            if (postings.get(id) == null) {
+                postings.set(id, new LinkedHashSet<>());
+            }
+            postings.get(id).add(item);
+        });
+    }
+
+    /**
+     * Removes {@code item} from the postings of each of its skills.
+     */
+    public void remove(T item) {
+        skillsOf.apply(item).forEachId(id -> getPosting(id).remove(item));
+    }
+
+    /**
+     * Discards the current contents and indexes every item in {@code items}, in order.
+     */
+    public void rebuild(Iterable<? extends T> items) {
+        postings.clear();
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the items that have {@code skill}.
+     */
+    public Set<T> get(Skill skill) {
+        return Collections.unmodifiableSet(getPosting(SkillDictionary.find(skill)));
+    }
+
+    /**
+     * Returns the items that have every skill in {@code skills}, in the order they were indexed.
+     * Candidates are taken from the smallest posting and checked against the remaining skills with bitset
+     * containment. Returns an empty list if {@code skills} is empty.
+     */
+    public List<T> findWithAll(SkillSet skills) {
+        requireNonNull(skills);
+        Set<T> smallestPosting = null;
+        for (Set<T> posting : postingsOf(skills)) {
+            if (smallestPosting == null || posting.size() < smallestPosting.size()) {
+                smallestPosting = posting;
+            }
+        }
+        if (smallestPosting == null) {
+            return new ArrayList<>();
+        }
+        return smallestPosting.stream()
+                .filter(item -> skillsOf.apply(item).containsAll(skills))
+                .toList();
+    }
+
+    /**
+     * Returns the items that have at least one skill in {@code skills}, without duplicates.
+     */
+    public List<T> findWithAny(SkillSet skills) {
+        requireNonNull(skills);
+        Set<T> matches = new LinkedHashSet<>();
+        postingsOf(skills).forEach(matches::addAll);
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns how many of the skills in {@code skills} each item has, for the items that have at least one of them,
+     * in the order they were first found. Only the postings of {@code skills} are visited.
+     */
+    public Map<T, Integer> countMatches(SkillSet skills) {
+        requireNonNull(skills);
+        Map<T, Integer> counts = new LinkedHashMap<>();
+        for (Set<T> posting : postingsOf(skills)) {
+            posting.forEach(item -> counts.merge(item, 1, Integer::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * Returns true if {@code item} is in the posting of any of the skills in {@code skills}.
+     */
+    public boolean containsAny(T item, SkillSet skills) {
+        requireNonNull(skills);
+        for (Set<T> posting : postingsOf(skills)) {
+            if (posting.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the total size of the postings of the skills in {@code skills}, which is an upper bound of the number
+     * of items that have any of them.
+     */
+    public int countPostings(SkillSet skills) {
+        requireNonNull(skills);
+        return postingsOf(skills).stream().mapToInt(Set::size).sum();
+    }
+
+    private List<Set<T>> postingsOf(SkillSet skills) {
+        List<Set<T>> result = new ArrayList<>();
+        skills.forEachId(id -> result.add(getPosting(id)));
+        return result;
+    }
+
+    private Set<T> getPosting(int id) {
+        Set<T> posting = id >= 0 && id < postings.size() ? postings.get(id) : null;
+        return posting == null ? Collections.emptySet() : posting;
+    }
+}
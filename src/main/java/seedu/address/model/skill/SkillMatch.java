@@ -0,0 +1,48 @@
+package seedu.address.model.skill;
+
+import java.util.Comparator;
+
+/**
+ * Represents how well the skills of an item match a set of target skills.
+ *
+ * @param item          The matched item.
+ * @param position      The position of the item in the list it was ranked from, used to break ties.
+ * @param matchedSkills The number of target skills that the item has.
+ * @param missingSkills The number of target skills that the item lacks.
+ * @param unionSize     The number of skills in the union of the item's skills and the target skills.
+ * @param <T>           Type of the matched item.
+ */
+public record SkillMatch<T>(T item, int position, int matchedSkills, int missingSkills, int unionSize) {
+
+    /**
+     * Orders matches from best to worst: more matched skills first, then the higher Jaccard similarity (i.e. fewer
+     * unrelated skills), then the earlier position.
+     */
+    public static final Comparator<SkillMatch<?>> BEST_FIRST = Comparator
+            .<SkillMatch<?>>comparingInt(match -> -match.matchedSkills())
+            .thenComparing(SkillMatch::compareJaccardDescending)
+            .thenComparingInt(SkillMatch::position);
+
+    /**
+     * Returns the match of {@code item}, whose skills are {@code itemSkills}, against {@code targetSkills}.
+     */
+    public static <T> SkillMatch<T> of(T item, int position, SkillSet itemSkills, SkillSet targetSkills) {
+        int matched = itemSkills.intersectionSize(targetSkills);
+        int targetSize = targetSkills.size();
+        return new SkillMatch<>(item, position, matched, targetSize - matched,
+                itemSkills.size() + targetSize - matched);
+    }
+
+    /**
+     * Returns the Jaccard similarity between the item's skills and the target skills.
+     */
+    public double jaccard() {
+        return unionSize == 0 ? 0 : (double) matchedSkills / unionSize;
+    }
+
+    private static int compareJaccardDescending(SkillMatch<?> first, SkillMatch<?> second) {
+        // Compares matched / union of both matches without division.
+        return Long.compare((long) second.matchedSkills * first.unionSize,
+                (long) first.matchedSkills * second.unionSize);
+    }
+}
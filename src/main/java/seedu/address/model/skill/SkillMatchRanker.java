@@ -0,0 +1,148 @@
+package seedu.address.model.skill;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Ranks items by how well their skills match a set of target skills, keeping only the best few.
+ * Each range of items is scored into a bounded heap, so ranking n items for the top k takes O(n log k) time and
+ * O(k) extra space per range. Lists longer than a threshold are split into ranges scored in parallel by the
+ * common fork/join pool.
+ */
+public class SkillMatchRanker {
+    /** Lists up to this length are ranked on the calling thread. */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 8192;
+
+    private SkillMatchRanker() {
+    } // prevents instantiation
+
+    /**
+     * Returns the (at most) {@code limit} best matches among {@code items} against {@code targetSkills}, best first,
+     * as ordered by {@link SkillMatch#BEST_FIRST}. Items without any target skill are never returned.
+     * {@code items} must not be modified while ranking.
+     */
+    public static <T> List<SkillMatch<T>> rank(List<T> items, Function<T, SkillSet> skillsOf, SkillSet targetSkills,
+            int limit) {
+        return rank(items, skillsOf, targetSkills, limit, DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #rank(List, Function, SkillSet, int)}, but splits work into ranges of at most
+     * {@code sequentialThreshold} items.
+     */
+    static <T> List<SkillMatch<T>> rank(List<T> items, Function<T, SkillSet> skillsOf, SkillSet targetSkills,
+            int limit, int sequentialThreshold) {
+        requireNonNull(items);
+        requireNonNull(skillsOf);
+        requireNonNull(targetSkills);
+        if (limit <= 0 || targetSkills.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        RankTask<T> task = new RankTask<>(items, skillsOf, targetSkills, limit, sequentialThreshold, 0, items.size());
+        PriorityQueue<SkillMatch<T>> best = items.size() <= sequentialThreshold
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+
+        return sorted(best);
+    }
+
+    /**
+     * Returns the (at most) {@code limit} items in {@code index} whose own skills are best covered by {@code skills},
+     * best first, as ordered by {@link SkillMatch#BEST_FIRST}. The missing skills of each match are the skills of
+     * the item that are not in {@code skills}, and ties are broken by the order the items were found.
+     * Only the postings of {@code skills} are visited, so the cost depends on the number of skills in
+     * {@code skills} and the items sharing them, rather than on the number of indexed items.
+     */
+    public static <T> List<SkillMatch<T>> rankCoveredBy(SkillIndex<T> index, Function<T, SkillSet> skillsOf,
+            SkillSet skills, int limit) {
+        requireNonNull(index);
+        requireNonNull(skillsOf);
+        requireNonNull(skills);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        PriorityQueue<SkillMatch<T>> best = new PriorityQueue<>(SkillMatch.BEST_FIRST.reversed());
+        int position = 0;
+        for (Map.Entry<T, Integer> entry : index.countMatches(skills).entrySet()) {
+            int itemSize = skillsOf.apply(entry.getKey()).size();
+            int matched = entry.getValue();
+            offer(best, new SkillMatch<>(entry.getKey(), position++, matched, itemSize - matched,
+                    itemSize + skills.size() - matched), limit);
+        }
+        return sorted(best);
+    }
+
+    /**
+     * Adds {@code match} to {@code best} if it is among the {@code limit} best matches seen so far.
+     */
+    private static <T> void offer(PriorityQueue<SkillMatch<T>> best, SkillMatch<T> match, int limit) {
+        if (best.size() < limit) {
+            best.add(match);
+        } else if (SkillMatch.BEST_FIRST.compare(match, best.peek()) < 0) {
+            best.poll();
+            best.add(match);
+        }
+    }
+
+    private static <T> List<SkillMatch<T>> sorted(PriorityQueue<SkillMatch<T>> best) {
+        List<SkillMatch<T>> result = new ArrayList<>(best);
+        result.sort(SkillMatch.BEST_FIRST);
+        return result;
+    }
+
+    /**
+     * Scores a range of items into a heap of the best matches, whose head is the worst of them.
+     */
+    private static class RankTask<T> extends RecursiveTask<PriorityQueue<SkillMatch<T>>> {
+        private final List<T> items;
+        private final Function<T, SkillSet> skillsOf;
+        private final SkillSet targetSkills;
+        private final int limit;
+        private final int sequentialThreshold;
+        private final int from;
+        private final int to;
+
+        RankTask(List<T> items, Function<T, SkillSet> skillsOf, SkillSet targetSkills, int limit,
+                int sequentialThreshold, int from, int to) {
+            this.items = items;
+            this.skillsOf = skillsOf;
+            this.targetSkills = targetSkills;
+            this.limit = limit;
+            this.sequentialThreshold = sequentialThreshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PriorityQueue<SkillMatch<T>> compute() {
+            if (to - from <= sequentialThreshold) {
+                PriorityQueue<SkillMatch<T>> best = new PriorityQueue<>(SkillMatch.BEST_FIRST.reversed());
+                for (int i = from; i < to; i++) {
+                    T item = items.get(i);
+                    SkillSet itemSkills = skillsOf.apply(item);
+                    if (itemSkills.intersects(targetSkills)) {
+                        offer(best, SkillMatch.of(item, i, itemSkills, targetSkills), limit);
+                    }
+                }
+                return best;
+            }
+
+            int middle = (from + to) >>> 1;
+            RankTask<T> left = new RankTask<>(items, skillsOf, targetSkills, limit, sequentialThreshold, from, middle);
+            RankTask<T> right = new RankTask<>(items, skillsOf, targetSkills, limit, sequentialThreshold, middle, to);
+            left.fork();
+            PriorityQueue<SkillMatch<T>> best = right.compute();
+            left.join().forEach(match -> offer(best, match, limit));
+            return best;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.model.skill;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of skills, stored as a bitset over the IDs assigned by {@link SkillDictionary}.
+ * Equality, containment and intersection of skill sets are word-level bit operations.
+ */
+public final class SkillSet {
+    public static final SkillSet EMPTY = new SkillSet(new long[0]);
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    // Trailing zero words are always trimmed, so that equal sets have equal arrays.
+    private final long[] words;
+
+    private SkillSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the skill set containing exactly {@code skills}.
+     */
+    public static SkillSet of(Collection<Skill> skills) {
+        requireNonNull(skills);
+        if (skills.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (Skill skill : skills) {
+            words = withId(words, SkillDictionary.idOf(skill));
+        }
+        return new SkillSet(words);
+    }
+
+    /**
+     * Returns the skill set containing those of {@code skills} that have been seen before, leaving out the others.
+     * Unlike {@link #of(Collection)}, this never adds skills to the {@link SkillDictionary}, so it suits skills that
+     * are only looked up, such as those in a search; a skill that has never been seen belongs to no set anyway.
+     */
+    public static SkillSet ofKnown(Collection<Skill> skills) {
+        requireNonNull(skills);
+        long[] words = new long[0];
+        for (Skill skill : skills) {
+            int id = SkillDictionary.find(skill);
+            if (id != SkillDictionary.UNKNOWN_ID) {
+                words = withId(words, id);
+            }
+        }
+        return words.length == 0 ? EMPTY : new SkillSet(words);
+    }
+
+    /**
+     * Returns {@code words} with the bit of {@code id} set, growing it if needed.
+     */
+    private static long[] withId(long[] words, int id) {
+        int wordIndex = id >>> ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= words.length) {
+            words = Arrays.copyOf(words, wordIndex + 1);
+        }
+        words[wordIndex] |= 1L << id;
+        return words;
+    }
+
+    /**
+     * Returns true if this set contains {@code skill}.
+     */
+    public boolean contains(Skill skill) {
+        return containsId(SkillDictionary.find(skill));
+    }
+
+    /**
+     * Returns true if this set contains the skill with the given dictionary {@code id}.
+     */
+    public boolean containsId(int id) {
+        int wordIndex = id >>> ADDRESS_BITS_PER_WORD;
+        return id >= 0 && wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns true if this set contains every skill in {@code other}.
+     */
+    public boolean containsAll(SkillSet other) {
+        if (other.words.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            if ((other.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this set and {@code other} have at least one skill in common.
+     */
+    public boolean intersects(SkillSet other) {
+        int commonLength = Math.min(words.length, other.words.length);
+        for (int i = 0; i < commonLength; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of skills that this set and {@code other} have in common.
+     */
+    public int intersectionSize(SkillSet other) {
+        int commonLength = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < commonLength; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of skills in this set.
+     */
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * Performs {@code action} on the dictionary ID of every skill in this set, in increasing order of ID.
+     */
+    public void forEachId(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((i << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SkillSet otherSkillSet)) {
+            return false;
+        }
+        return Arrays.equals(words, otherSkillSet.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        forEachId(id -> builder.append(builder.length() > 1 ? ", " : "").append(SkillDictionary.skillOf(id)));
+        return builder.append("]").toString();
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillSet;
+
+/**
+ * An immutable copy of the fields of an application, its applicant and its job that statistics can be grouped by.
+ *
+ * @param applicant   The name of the applicant, which identifies them.
+ * @param school      The school of the applicant.
+ * @param degree      The degree of the applicant.
+ * @param skills      The names of the skills of the applicant, in alphabetical order.
+ * @param jobTitle    The title of the job.
+ * @param jobSkills   The skills required by the job.
+ * @param round       The round the application is in.
+ */
+public record ApplicationRecord(Name applicant, String school, String degree, List<String> skills,
+        String jobTitle, SkillSet jobSkills, int round) {
+
+    /**
+     * Returns a record of the current state of {@code application}.
+     */
+    public static ApplicationRecord of(Application application) {
+        requireNonNull(application);
+        Person applicant = application.getApplicant();
+        Job job = application.getJob();
+        List<String> skills = applicant.getSkills().stream()
+                .map(Skill::skillName)
+                .sorted()
+                .toList();
+        return new ApplicationRecord(applicant.getName(), applicant.getSchool().value,
+                applicant.getDegree().value, skills, job.getJobTitle().jobTitle(), job.getSkillSet(),
+                application.getApplicationStatus().applicationStatus);
+    }
+
+    /**
+     * Returns records of the current state of {@code applications}, which must not be modified while the records
+     * are taken.
+     * The records are taken in parallel by the common fork/join pool.
+     */
+    public static List<ApplicationRecord> snapshotOf(List<Application> applications) {
+        requireNonNull(applications);
+        return applications.parallelStream()
+                .map(ApplicationRecord::of)
+                .toList();
+    }
+}
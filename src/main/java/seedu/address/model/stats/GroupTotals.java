@@ -0,0 +1,55 @@
+package seedu.address.model.stats;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+
+/**
+ * Running totals of the application records in a group, from which every {@code StatsMetric} can be computed.
+ */
+class GroupTotals {
+    private int count;
+    private long roundSum;
+    // Only kept when distinct persons are asked for, as it grows with the number of records.
+    private final Set<Name> applicants;
+
+    GroupTotals(boolean isCountingPersons) {
+        applicants = isCountingPersons ? new HashSet<>() : null;
+    }
+
+    /**
+     * Adds {@code record} to the totals.
+     */
+    void add(ApplicationRecord record) {
+        count++;
+        roundSum += record.round();
+        if (applicants != null) {
+            applicants.add(record.applicant());
+        }
+    }
+
+    /**
+     * Adds the records of {@code other} to these totals.
+     */
+    GroupTotals merge(GroupTotals other) {
+        count += other.count;
+        roundSum += other.roundSum;
+        if (applicants != null) {
+            applicants.addAll(other.applicants);
+        }
+        return this;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    int getPersonCount() {
+        return applicants == null ? 0 : applicants.size();
+    }
+
+    double getAverageRound() {
+        return count == 0 ? 0 : (double) roundSum / count;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.stats;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A field of an application record that statistics can be grouped by.
+ */
+public enum StatsDimension {
+    SCHOOL("school", record -> List.of(record.school()), Comparator.naturalOrder()),
+    DEGREE("degree", record -> List.of(record.degree()), Comparator.naturalOrder()),
+    // An applicant with several skills is counted once for each of them.
+    SKILL("skill", ApplicationRecord::skills, Comparator.naturalOrder()),
+    JOB("job", record -> List.of(record.jobTitle()), Comparator.naturalOrder()),
+    ROUND("round", record -> List.of(String.valueOf(record.round())), Comparator.comparingInt(Integer::parseInt));
+
+    public static final String MESSAGE_CONSTRAINTS = "Statistics can only be grouped by "
+            + String.join(", ", Arrays.stream(values()).map(StatsDimension::getKeyword).toList());
+
+    private final String keyword;
+    private final Function<ApplicationRecord, List<String>> valuesOf;
+    private final Comparator<String> valueOrder;
+
+    StatsDimension(String keyword, Function<ApplicationRecord, List<String>> valuesOf,
+            Comparator<String> valueOrder) {
+        this.keyword = keyword;
+        this.valuesOf = valuesOf;
+        this.valueOrder = valueOrder;
+    }
+
+    /**
+     * Returns the dimension named {@code keyword}, ignoring case, if any.
+     */
+    public static Optional<StatsDimension> fromKeyword(String keyword) {
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.keyword.equalsIgnoreCase(keyword))
+                .findFirst();
+    }
+
+    /**
+     * Returns the name of this dimension in the {@code stats} command.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the values of this dimension in {@code record}. A record is counted in the group of each value.
+     */
+    List<String> valuesOf(ApplicationRecord record) {
+        return valuesOf.apply(record);
+    }
+
+    /**
+     * Returns the order in which the groups of the values of this dimension are listed.
+     */
+    Comparator<String> getValueOrder() {
+        return valueOrder;
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.stats;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A figure that can be computed for each group of application records.
+ */
+public enum StatsMetric {
+    COUNT("count", totals -> String.valueOf(totals.getCount())),
+    PERSONS("persons", totals -> String.valueOf(totals.getPersonCount())),
+    AVERAGE_ROUND("avground", totals -> String.format("%.2f", totals.getAverageRound()));
+
+    public static final String MESSAGE_CONSTRAINTS = "Statistics can only compute "
+            + String.join(", ", Arrays.stream(values()).map(StatsMetric::getKeyword).toList());
+
+    private final String keyword;
+    private final Function<GroupTotals, String> format;
+
+    StatsMetric(String keyword, Function<GroupTotals, String> format) {
+        this.keyword = keyword;
+        this.format = format;
+    }
+
+    /**
+     * Returns the metric named {@code keyword}, ignoring case, if any.
+     */
+    public static Optional<StatsMetric> fromKeyword(String keyword) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.keyword.equalsIgnoreCase(keyword))
+                .findFirst();
+    }
+
+    /**
+     * Returns the name of this metric in the {@code stats} command.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns this metric for the group with {@code totals}, formatted for display.
+     */
+    String format(GroupTotals totals) {
+        return format.apply(totals);
+    }
+}
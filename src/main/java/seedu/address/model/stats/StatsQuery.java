@@ -0,0 +1,178 @@
+package seedu.address.model.stats;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillSet;
+
+/**
+ * Groups application records by some dimensions and computes some metrics for each group, counting only the
+ * applications to jobs that require some skills.
+ * Lists of records longer than a threshold are split into ranges that are grouped in parallel by the common
+ * fork/join pool, and the groups of the ranges are then merged.
+ */
+public class StatsQuery {
+    /** Lists up to this length are grouped on the calling thread. */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 8192;
+
+    private final List<StatsDimension> dimensions;
+    private final List<StatsMetric> metrics;
+    private final Set<Skill> requiredJobSkills;
+
+    /**
+     * Creates a {@code StatsQuery} that groups by {@code dimensions} and computes {@code metrics}, in the given orders,
+     * for the applications to jobs that require all of {@code requiredJobSkills}.
+     */
+    public StatsQuery(List<StatsDimension> dimensions, List<StatsMetric> metrics, Set<Skill> requiredJobSkills) {
+        requireAllNonNull(dimensions, metrics, requiredJobSkills);
+        this.dimensions = List.copyOf(dimensions);
+        this.metrics = List.copyOf(metrics);
+        this.requiredJobSkills = Set.copyOf(requiredJobSkills);
+    }
+
+    /**
+     * Returns the table of the groups of {@code records}. {@code records} must not be modified while grouping.
+     */
+    public StatsTable evaluate(List<ApplicationRecord> records) {
+        return evaluate(records, DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #evaluate(List)}, but splits work into ranges of at most {@code sequentialThreshold} records.
+     */
+    StatsTable evaluate(List<ApplicationRecord> records, int sequentialThreshold) {
+        requireNonNull(records);
+        GroupTask task = new GroupTask(records, SkillSet.of(requiredJobSkills), sequentialThreshold, 0,
+                records.size());
+        Map<List<String>, GroupTotals> groups = records.size() <= sequentialThreshold
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+
+        List<String> header = new ArrayList<>();
+        dimensions.forEach(dimension -> header.add(dimension.getKeyword()));
+        metrics.forEach(metric -> header.add(metric.getKeyword()));
+
+        List<List<String>> rows = new ArrayList<>();
+        groups.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(keyOrder()))
+                .forEach(group -> {
+                    List<String> row = new ArrayList<>(group.getKey());
+                    metrics.forEach(metric -> row.add(metric.format(group.getValue())));
+                    rows.add(row);
+                });
+        return new StatsTable(header, rows);
+    }
+
+    /**
+     * Returns the order of group keys, by the value of the first dimension, then the second, and so on.
+     */
+    private Comparator<List<String>> keyOrder() {
+        Comparator<List<String>> order = (key, otherKey) -> 0;
+        for (int i = 0; i < dimensions.size(); i++) {
+            int dimension = i;
+            order = order.thenComparing(key -> key.get(dimension), dimensions.get(dimension).getValueOrder());
+        }
+        return order;
+    }
+
+    /**
+     * Adds {@code record} to the group of every combination of the values of the dimensions from {@code dimension}
+     * onwards, where {@code key} holds the values of the dimensions before it.
+     */
+    private void addToGroups(Map<List<String>, GroupTotals> groups, ApplicationRecord record, String[] key,
+            int dimension) {
+        if (dimension == dimensions.size()) {
+            groups.computeIfAbsent(List.of(key), unused -> new GroupTotals(metrics.contains(StatsMetric.PERSONS)))
+                    .add(record);
+            return;
+        }
+        for (String value : dimensions.get(dimension).valuesOf(record)) {
+            key[dimension] = value;
+            addToGroups(groups, record, key, dimension + 1);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsQuery otherStatsQuery)) {
+            return false;
+        }
+        return dimensions.equals(otherStatsQuery.dimensions)
+                && metrics.equals(otherStatsQuery.metrics)
+                && requiredJobSkills.equals(otherStatsQuery.requiredJobSkills);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dimensions, metrics, requiredJobSkills);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("dimensions", dimensions)
+                .add("metrics", metrics)
+                .add("requiredJobSkills", requiredJobSkills)
+                .toString();
+    }
+
+    /**
+     * Groups a range of records into a map from the values of the dimensions to the totals of the group.
+     */
+    private class GroupTask extends RecursiveTask<Map<List<String>, GroupTotals>> {
+        private final List<ApplicationRecord> records;
+        private final SkillSet requiredSkills;
+        private final int sequentialThreshold;
+        private final int from;
+        private final int to;
+
+        GroupTask(List<ApplicationRecord> records, SkillSet requiredSkills, int sequentialThreshold, int from,
+                int to) {
+            this.records = records;
+            this.requiredSkills = requiredSkills;
+            this.sequentialThreshold = sequentialThreshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<List<String>, GroupTotals> compute() {
+            if (to - from <= sequentialThreshold) {
+                Map<List<String>, GroupTotals> groups = new HashMap<>();
+                String[] key = new String[dimensions.size()];
+                for (int i = from; i < to; i++) {
+                    ApplicationRecord record = records.get(i);
+                    if (record.jobSkills().containsAll(requiredSkills)) {
+                        addToGroups(groups, record, key, 0);
+                    }
+                }
+                return groups;
+            }
+
+            int middle = (from + to) >>> 1;
+            GroupTask left = new GroupTask(records, requiredSkills, sequentialThreshold, from, middle);
+            GroupTask right = new GroupTask(records, requiredSkills, sequentialThreshold, middle, to);
+            left.fork();
+            Map<List<String>, GroupTotals> groups = right.compute();
+            left.join().forEach((key, totals) -> groups.merge(key, totals, GroupTotals::merge));
+            return groups;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.stats;
+
+import java.util.List;
+
+/**
+ * The result of a {@code StatsQuery}: one row for each group, holding the values of the dimensions grouped by
+ * followed by the metrics computed for the group.
+ *
+ * @param header The names of the dimensions and metrics, in the same order as the cells of each row.
+ * @param rows   The rows of the table, in the order of the values of the dimensions grouped by.
+ */
+public record StatsTable(List<String> header, List<List<String>> rows) {
+
+    public StatsTable {
+        header = List.copyOf(header);
+        rows = List.copyOf(rows);
+    }
+}
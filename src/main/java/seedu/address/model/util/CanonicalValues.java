@@ -0,0 +1,58 @@
+package seedu.address.model.util;
+
+import seedu.address.commons.util.Interner;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Degree;
+import seedu.address.model.person.School;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Contains the canonical instances of the value objects that many persons and jobs share, such as schools and skills.
+ * Parsers and storage adapters create these values through this class, so that persons with the same school or
+ * skill share one instance of it.
+ */
+public class CanonicalValues {
+    private static final Interner<Address> ADDRESSES = new Interner<>(Address::new, address -> address.value);
+    private static final Interner<School> SCHOOLS = new Interner<>(School::new, school -> school.value);
+    private static final Interner<Degree> DEGREES = new Interner<>(Degree::new, degree -> degree.value);
+    private static final Interner<Skill> SKILLS = new Interner<>(Skill::new, Skill::skillName);
+
+    private CanonicalValues() {
+    } // prevents instantiation
+
+    /**
+     * Returns the canonical {@code Address} with the given value.
+     *
+     * @throws IllegalArgumentException if {@code address} is not a valid address.
+     */
+    public static Address address(String address) {
+        return ADDRESSES.intern(address);
+    }
+
+    /**
+     * Returns the canonical {@code School} with the given value.
+     *
+     * @throws IllegalArgumentException if {@code school} is not a valid school.
+     */
+    public static School school(String school) {
+        return SCHOOLS.intern(school);
+    }
+
+    /**
+     * Returns the canonical {@code Degree} with the given value.
+     *
+     * @throws IllegalArgumentException if {@code degree} is not a valid degree.
+     */
+    public static Degree degree(String degree) {
+        return DEGREES.intern(degree);
+    }
+
+    /**
+     * Returns the canonical {@code Skill} with the given name.
+     *
+     * @throws IllegalArgumentException if {@code skillName} is not a valid skill name.
+     */
+    public static Skill skill(String skillName) {
+        return SKILLS.intern(skillName);
+    }
+}
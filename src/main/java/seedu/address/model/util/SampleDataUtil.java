@@ -131,6 +131,6 @@ public class SampleDataUtil {
          * Returns a skill set containing the list of strings given.
          */
         public static Set<Skill> getSkillSet(String... strings) {
-                return Arrays.stream(strings).map(Skill::new).collect(Collectors.toSet());
+                return Arrays.stream(strings).map(CanonicalValues::skill).collect(Collectors.toSet());
         }
 }
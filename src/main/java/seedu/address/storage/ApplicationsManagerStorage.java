@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 
 /**
@@ -20,14 +21,17 @@ public interface ApplicationsManagerStorage {
      * Returns ApplicationsManager data as a {@link ReadOnlyApplicationsManager}.
      * Returns {@code Optional.empty()} if storage file is not found.
      *
+     * @param addressBook the address book that the applicants and jobs of the applications are resolved against.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException;
+    Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
 
     /**
-     * @see #getApplicationsManagerFilePath()
+     * @see #readApplicationsManager(ReadOnlyAddressBook)
      */
-    Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath) throws DataLoadingException;
+    Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
 
     /**
      * Saves the given {@link ReadOnlyApplicationsManager} to the storage.
@@ -0,0 +1,336 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobRounds;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Degree;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.School;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.util.CanonicalValues;
+
+/**
+ * A class to access the snapshot cache stored as a binary file on the hard disk.
+ * The file starts with a header holding the ID of the data files it was written for. Every distinct string is
+ * then stored once in a string table, and persons, jobs and applications refer to strings, persons and jobs by their
+ * index. The file ends with a checksum of its own contents, so that a damaged cache is never read.
+ * The file is memory-mapped when read, and every value shared by many persons or jobs, such as a school or skill, is
+ * created only once.
+ */
+public class BinarySnapshotCacheStorage implements SnapshotCacheStorage {
+
+    public static final String MESSAGE_CORRUPTED_CACHE = "Snapshot cache is damaged.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotCacheStorage.class);
+
+    private static final int MAGIC_NUMBER = 0x544d5343; // "TMSC" in ASCII
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path filePath;
+
+    public BinarySnapshotCacheStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSnapshotCacheFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<CachedData> readSnapshotCache(long snapshotId) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = readFile();
+            if (buffer.limit() < HEADER_SIZE + Long.BYTES || buffer.getInt() != MAGIC_NUMBER
+                    || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != snapshotId) {
+                logger.info("Snapshot cache " + filePath + " does not belong to the current data files, ignoring it.");
+                return Optional.empty();
+            }
+            if (!hasValidContentChecksum(buffer)) {
+                logger.warning("Snapshot cache file " + filePath + " is damaged.");
+                throw new DataLoadingException(new IllegalStateException(MESSAGE_CORRUPTED_CACHE));
+            }
+            return Optional.of(new Decoder(buffer).decode());
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot cache file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (RuntimeException e) {
+            // The model rejects values that break its constraints with runtime exceptions.
+            logger.warning("Invalid data found in snapshot cache file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the contents of the cache file, read into memory in full.
+     * The file is not memory-mapped, as a mapping outlives the channel and keeps the file from being replaced on
+     * some platforms until the mapping is garbage collected.
+     */
+    private ByteBuffer readFile() throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_CORRUPTED_CACHE);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Snapshot cache file " + filePath + " ended early.");
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Returns true if the checksum at the end of {@code buffer} matches the contents before it.
+     */
+    private static boolean hasValidContentChecksum(ByteBuffer buffer) {
+        int checksumPosition = buffer.limit() - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(checksumPosition));
+        return checksum.getValue() == buffer.getLong(checksumPosition);
+    }
+
+    @Override
+    public void saveSnapshotCache(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager,
+            long snapshotId) throws IOException {
+        requireAllNonNull(addressBook, applicationsManager);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 checksum = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), checksum));
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshotId);
+            new Encoder(out).encode(addressBook, applicationsManager);
+            out.writeLong(checksum.getValue());
+            out.flush();
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFilePath);
+            throw e;
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    /**
+     * Writes the contents of the cache after its header.
+     */
+    private static class Encoder {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+
+        Encoder(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void encode(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager)
+                throws IOException {
+            List<Person> persons = addressBook.getPersonList();
+            List<Job> jobs = addressBook.getJobList();
+            persons.forEach(this::addStrings);
+            jobs.forEach(this::addStrings);
+
+            out.writeInt(stringIndices.size());
+            for (String string : stringIndices.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            Map<Name, Integer> personIndices = new HashMap<>();
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                personIndices.put(person.getName(), personIndices.size());
+                writeStrings(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                        person.getAddress().value, person.getSchool().value, person.getDegree().value);
+                writeSkills(person.getSkills());
+            }
+
+            Map<JobTitle, Integer> jobIndices = new HashMap<>();
+            out.writeInt(jobs.size());
+            for (Job job : jobs) {
+                jobIndices.put(job.getJobTitle(), jobIndices.size());
+                writeStrings(job.getJobTitle().jobTitle());
+                out.writeInt(job.getJobRounds().jobRounds);
+                writeSkills(job.getSkills());
+            }
+
+            List<Application> applications = applicationsManager.getApplicationList();
+            out.writeInt(applications.size());
+            for (Application application : applications) {
+                Integer personIndex = personIndices.get(application.getApplicant().getName());
+                Integer jobIndex = jobIndices.get(application.getJob().getJobTitle());
+                if (personIndex == null || jobIndex == null) {
+                    throw new IOException("Application refers to a person or job not in the address book: "
+                            + application);
+                }
+                out.writeInt(personIndex);
+                out.writeInt(jobIndex);
+                out.writeInt(application.getApplicationStatus().applicationStatus);
+            }
+        }
+
+        private void addStrings(Person person) {
+            for (String string : List.of(person.getName().fullName, person.getPhone().value,
+                    person.getEmail().value, person.getAddress().value, person.getSchool().value,
+                    person.getDegree().value)) {
+                stringIndices.putIfAbsent(string, stringIndices.size());
+            }
+            person.getSkills().forEach(skill -> stringIndices.putIfAbsent(skill.skillName(), stringIndices.size()));
+        }
+
+        private void addStrings(Job job) {
+            stringIndices.putIfAbsent(job.getJobTitle().jobTitle(), stringIndices.size());
+            job.getSkills().forEach(skill -> stringIndices.putIfAbsent(skill.skillName(), stringIndices.size()));
+        }
+
+        private void writeStrings(String... strings) throws IOException {
+            for (String string : strings) {
+                out.writeInt(stringIndices.get(string));
+            }
+        }
+
+        private void writeSkills(Set<Skill> skills) throws IOException {
+            out.writeInt(skills.size());
+            for (Skill skill : skills) {
+                out.writeInt(stringIndices.get(skill.skillName()));
+            }
+        }
+    }
+
+    /**
+     * Reads the contents of the cache after its header.
+     * Indices or counts that do not fit the cache fail with runtime exceptions.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private String[] strings;
+        // Values created from the string with the same index, so that each value is only created once.
+        private Address[] addresses;
+        private School[] schools;
+        private Degree[] degrees;
+        private Skill[] skills;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        CachedData decode() {
+            int stringCount = buffer.getInt();
+            strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            addresses = new Address[stringCount];
+            schools = new School[stringCount];
+            degrees = new Degree[stringCount];
+            skills = new Skill[stringCount];
+
+            List<Person> persons = new ArrayList<>();
+            for (int count = buffer.getInt(); persons.size() < count; ) {
+                // The cache was written from valid persons and jobs and passed its checksum, so the values that
+                // are mostly unique to each are not checked against their constraints again.
+                persons.add(new Person(Name.ofValidated(readString()), Phone.ofValidated(readString()),
+                        Email.ofValidated(readString()), readValue(addresses, CanonicalValues::address),
+                        readValue(schools, CanonicalValues::school), readValue(degrees, CanonicalValues::degree),
+                        readSkills()));
+            }
+
+            List<Job> jobs = new ArrayList<>();
+            for (int count = buffer.getInt(); jobs.size() < count; ) {
+                jobs.add(new Job(JobTitle.ofValidated(readString()), new JobRounds(buffer.getInt()), readSkills()));
+            }
+
+            List<Application> applications = new ArrayList<>();
+            for (int count = buffer.getInt(); applications.size() < count; ) {
+                applications.add(new Application(persons.get(buffer.getInt()), jobs.get(buffer.getInt()),
+                        new ApplicationStatus(buffer.getInt())));
+            }
+
+            if (buffer.remaining() != Long.BYTES) {
+                throw new IllegalStateException(MESSAGE_CORRUPTED_CACHE);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setJobs(jobs);
+            ApplicationsManager applicationsManager = new ApplicationsManager();
+            applicationsManager.setApplications(applications);
+            return new CachedData(addressBook, applicationsManager);
+        }
+
+        private String readString() {
+            return strings[buffer.getInt()];
+        }
+
+        private <T> T readValue(T[] values, Function<String, T> factory) {
+            int index = buffer.getInt();
+            if (values[index] == null) {
+                values[index] = factory.apply(strings[index]);
+            }
+            return values[index];
+        }
+
+        private Set<Skill> readSkills() {
+            int count = buffer.getInt();
+            Set<Skill> readSkills = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                readSkills.add(readValue(skills, CanonicalValues::skill));
+            }
+            return readSkills;
+        }
+    }
+}
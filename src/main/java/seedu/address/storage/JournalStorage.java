@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalInt;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.Mutation;
+
+/**
+ * Represents a journal of the {@link Mutation}s made to the data since it was last saved as a whole, which is called
+ * the snapshot. A journal belongs to the snapshot it was started for, identified by an ID of the data files it was
+ * saved to.
+ */
+public interface JournalStorage {
+    /**
+     * Returns the file path of the journal.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Replaces the journal with an empty journal for the snapshot with ID {@code snapshotId}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void startJournal(long snapshotId) throws IOException;
+
+    /**
+     * Appends {@code mutations} to the journal, and only returns once they have been written to the disk.
+     * The journal must have been started or replayed before.
+     *
+     * @param mutations cannot contain resets.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<Mutation> mutations) throws IOException;
+
+    /**
+     * Applies the mutations in the journal to {@code model}, which must hold the data of the snapshot with ID
+     * {@code snapshotId}.
+     * Returns the number of mutations applied, or {@code OptionalInt.empty()} if the journal cannot be appended to,
+     * as it is not found, belongs to another snapshot or ends in an incompletely written mutation.
+     * A journal holding mutations that cannot be applied, including one that belongs to another snapshot, is moved
+     * aside rather than dropped, so that the mutations in it can still be recovered.
+     *
+     * @throws DataLoadingException if reading or applying the mutations failed.
+     */
+    OptionalInt replayJournal(Model model, long snapshotId) throws DataLoadingException;
+}
@@ -1,48 +1,75 @@
 package seedu.address.storage;
 
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.application.Application;
 import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Application}.
+ * The applicant and job are stored as keys into the address book, namely the name of the applicant and the title of
+ * the job. Applications in the legacy format, which embed the full applicant and job, can still be read.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedApplication {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Application's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_APPLICANT = "Application refers to an applicant not in the address"
+            + " book: %s";
+    public static final String MESSAGE_UNKNOWN_JOB = "Application refers to a job not in the address book: %s";
+
+    private final String applicantName;
+    private final String jobTitle;
+    private final Integer applicationStatus;
 
+    // Only present in data files written in the legacy format.
     private final JsonAdaptedPerson applicant;
     private final JsonAdaptedJob job;
-    private final Integer applicationStatus;
 
     /**
      * Constructs a {@code JsonAdaptedApplication} with the given application
      * details.
      */
     @JsonCreator
-    public JsonAdaptedApplication(@JsonProperty("applicant") JsonAdaptedPerson applicant,
-            @JsonProperty("job") JsonAdaptedJob job, @JsonProperty("applicationStatus") Integer applicationStatus) {
+    public JsonAdaptedApplication(@JsonProperty("applicantName") String applicantName,
+            @JsonProperty("jobTitle") String jobTitle, @JsonProperty("applicationStatus") Integer applicationStatus,
+            @JsonProperty("applicant") JsonAdaptedPerson applicant, @JsonProperty("job") JsonAdaptedJob job) {
+        this.applicantName = applicantName;
+        this.jobTitle = jobTitle;
+        this.applicationStatus = applicationStatus;
         this.applicant = applicant;
         this.job = job;
-        this.applicationStatus = applicationStatus;
     }
 
     /**
      * Converts a given {@code Application} into this class for Jackson use.
      */
     public JsonAdaptedApplication(Application source) {
-        applicant = new JsonAdaptedPerson(source.getApplicant());
-        job = new JsonAdaptedJob(source.getJob());
+        applicantName = source.getApplicant().getName().fullName;
+        jobTitle = source.getJob().getJobTitle().jobTitle();
         applicationStatus = source.getApplicationStatus().applicationStatus;
+        applicant = null;
+        job = null;
     }
 
     /**
      * Converts this Jackson-friendly adapted application object into the model's
-     * {@code Application} object.
+     * {@code Application} object, resolving its applicant and job against the
+     * given persons and jobs of the address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if the applicant or job is
+     *     not in the address book.
      */
-    public Application toModelType() throws IllegalValueException {
+    public Application toModelType(Map<Name, Person> persons, Map<JobTitle, Job> jobs)
+            throws IllegalValueException {
         if (applicationStatus == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, ApplicationStatus.class.getSimpleName()));
@@ -51,6 +78,59 @@ public class JsonAdaptedApplication {
             throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
         final ApplicationStatus modelApplicationStatus = new ApplicationStatus(applicationStatus);
-        return new Application(applicant.toModelType(), job.toModelType(), modelApplicationStatus);
+
+        final Name modelApplicantName = toApplicantName();
+        final Person modelApplicant = persons.get(modelApplicantName);
+        if (modelApplicant == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_APPLICANT, modelApplicantName));
+        }
+
+        final JobTitle modelJobTitle = toJobTitle();
+        final Job modelJob = jobs.get(modelJobTitle);
+        if (modelJob == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_JOB, modelJobTitle));
+        }
+
+        if (modelApplicationStatus.applicationStatus > modelJob.getJobRounds().jobRounds) {
+            throw new IllegalValueException(Application.EXCEED_ROUNDS_MESSAGE);
+        }
+        return new Application(modelApplicant, modelJob, modelApplicationStatus);
+    }
+
+    /**
+     * Returns true if the applicant and job of this application are among the given persons and jobs of the
+     * address book.
+     *
+     * @throws IllegalValueException if the applicant or job violates any data constraints.
+     */
+    public boolean isResolvableIn(Map<Name, Person> persons, Map<JobTitle, Job> jobs) throws IllegalValueException {
+        return persons.containsKey(toApplicantName()) && jobs.containsKey(toJobTitle());
+    }
+
+    private Name toApplicantName() throws IllegalValueException {
+        if (applicantName == null && applicant != null) {
+            return applicant.toModelType().getName();
+        }
+        if (applicantName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(applicantName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(applicantName);
+    }
+
+    private JobTitle toJobTitle() throws IllegalValueException {
+        if (jobTitle == null && job != null) {
+            return job.toModelType().getJobTitle();
+        }
+        if (jobTitle == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, JobTitle.class.getSimpleName()));
+        }
+        if (!JobTitle.isValidJobTitle(jobTitle)) {
+            throw new IllegalValueException(JobTitle.MESSAGE_CONSTRAINTS);
+        }
+        return new JobTitle(jobTitle);
     }
 }
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Mutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link Mutation}.
+ * Persons and jobs are stored in full, so that the person or job being replaced or deleted can be matched exactly.
+ * Applications only store the name of their applicant and the title of their job, like in the applications data
+ * file. Resets are not supported, as they can only be saved by saving the data as a whole.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedMutation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Mutation's %s field is missing!";
+    public static final String MESSAGE_RESET_NOT_SUPPORTED = "Resets cannot be saved as a single mutation";
+
+    /**
+     * Kinds of mutations that can be saved.
+     */
+    enum Type {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON, ADD_JOB, SET_JOB, DELETE_JOB, ADD_APPLICATION, SET_APPLICATION,
+        DELETE_APPLICATION
+    }
+
+    private final Type type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final JsonAdaptedJob job;
+    private final JsonAdaptedJob editedJob;
+    private final JsonAdaptedApplication application;
+    private final JsonAdaptedApplication editedApplication;
+
+    /**
+     * Constructs a {@code JsonAdaptedMutation} with the given mutation details.
+     */
+    @JsonCreator
+    public JsonAdaptedMutation(@JsonProperty("type") Type type, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson, @JsonProperty("job") JsonAdaptedJob job,
+            @JsonProperty("editedJob") JsonAdaptedJob editedJob,
+            @JsonProperty("application") JsonAdaptedApplication application,
+            @JsonProperty("editedApplication") JsonAdaptedApplication editedApplication) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.job = job;
+        this.editedJob = editedJob;
+        this.application = application;
+        this.editedApplication = editedApplication;
+    }
+
+    /**
+     * Converts a given {@code Mutation} into this class for Jackson use.
+     *
+     * @throws IllegalArgumentException if {@code source} is a reset.
+     */
+    public static JsonAdaptedMutation of(Mutation source) {
+        if (source instanceof Mutation.AddPerson m) {
+            return ofPersons(Type.ADD_PERSON, new JsonAdaptedPerson(m.person()), null);
+        } else if (source instanceof Mutation.SetPerson m) {
+            return ofPersons(Type.SET_PERSON, new JsonAdaptedPerson(m.target()),
+                    new JsonAdaptedPerson(m.editedPerson()));
+        } else if (source instanceof Mutation.DeletePerson m) {
+            return ofPersons(Type.DELETE_PERSON, new JsonAdaptedPerson(m.target()), null);
+        } else if (source instanceof Mutation.AddJob m) {
+            return ofJobs(Type.ADD_JOB, new JsonAdaptedJob(m.job()), null);
+        } else if (source instanceof Mutation.SetJob m) {
+            return ofJobs(Type.SET_JOB, new JsonAdaptedJob(m.target()), new JsonAdaptedJob(m.editedJob()));
+        } else if (source instanceof Mutation.DeleteJob m) {
+            return ofJobs(Type.DELETE_JOB, new JsonAdaptedJob(m.target()), null);
+        } else if (source instanceof Mutation.AddApplication m) {
+            return ofApplications(Type.ADD_APPLICATION, new JsonAdaptedApplication(m.application()), null);
+        } else if (source instanceof Mutation.SetApplication m) {
+            return ofApplications(Type.SET_APPLICATION, new JsonAdaptedApplication(m.target()),
+                    new JsonAdaptedApplication(m.editedApplication()));
+        } else if (source instanceof Mutation.DeleteApplication m) {
+            return ofApplications(Type.DELETE_APPLICATION, new JsonAdaptedApplication(m.target()), null);
+        }
+        throw new IllegalArgumentException(MESSAGE_RESET_NOT_SUPPORTED);
+    }
+
+    private static JsonAdaptedMutation ofPersons(Type type, JsonAdaptedPerson person,
+            JsonAdaptedPerson editedPerson) {
+        return new JsonAdaptedMutation(type, person, editedPerson, null, null, null, null);
+    }
+
+    private static JsonAdaptedMutation ofJobs(Type type, JsonAdaptedJob job, JsonAdaptedJob editedJob) {
+        return new JsonAdaptedMutation(type, null, null, job, editedJob, null, null);
+    }
+
+    private static JsonAdaptedMutation ofApplications(Type type, JsonAdaptedApplication application,
+            JsonAdaptedApplication editedApplication) {
+        return new JsonAdaptedMutation(type, null, null, null, null, application, editedApplication);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted mutation object into the model's {@code Mutation} object, resolving
+     * the applicant and job of applications against {@code participants}, which should hold the persons and jobs of
+     * the data the mutation is about to be applied to.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted mutation, or if an
+     *     applicant or job is not in the participants.
+     */
+    public Mutation toModelType(Participants participants) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        switch (type) {
+        case ADD_PERSON:
+            return new Mutation.AddPerson(toPerson(person, "person"));
+        case SET_PERSON:
+            return new Mutation.SetPerson(toPerson(person, "person"), toPerson(editedPerson, "editedPerson"));
+        case DELETE_PERSON:
+            return new Mutation.DeletePerson(toPerson(person, "person"));
+        case ADD_JOB:
+            return new Mutation.AddJob(toJob(job, "job"));
+        case SET_JOB:
+            return new Mutation.SetJob(toJob(job, "job"), toJob(editedJob, "editedJob"));
+        case DELETE_JOB:
+            return new Mutation.DeleteJob(toJob(job, "job"));
+        case ADD_APPLICATION:
+            return new Mutation.AddApplication(toApplication(application, "application", participants));
+        case SET_APPLICATION:
+            return new Mutation.SetApplication(toApplication(application, "application", participants),
+                    toApplication(editedApplication, "editedApplication", participants));
+        case DELETE_APPLICATION:
+            return new Mutation.DeleteApplication(toApplication(application, "application", participants));
+        default:
+            throw new AssertionError("Unknown mutation type: " + type);
+        }
+    }
+
+    private static Person toPerson(JsonAdaptedPerson person, String fieldName) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return person.toModelType();
+    }
+
+    private static Job toJob(JsonAdaptedJob job, String fieldName) throws IllegalValueException {
+        if (job == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return job.toModelType();
+    }
+
+    private static Application toApplication(JsonAdaptedApplication application, String fieldName,
+            Participants participants) throws IllegalValueException {
+        if (application == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return application.toModelType(participants.persons, participants.jobs);
+    }
+
+    /**
+     * The persons and jobs, by identity, of the data that a sequence of mutations is applied to, against which the
+     * applicants and jobs of applications are resolved. It is built once for the whole sequence, and kept up to date
+     * by {@link #update(Mutation)} as each mutation is applied.
+     */
+    static class Participants {
+        private final Map<Name, Person> persons = new HashMap<>();
+        private final Map<JobTitle, Job> jobs = new HashMap<>();
+
+        /**
+         * Creates the participants of the data in {@code addressBook}.
+         */
+        Participants(ReadOnlyAddressBook addressBook) {
+            addressBook.getPersonList().forEach(this::putPerson);
+            addressBook.getJobList().forEach(this::putJob);
+        }
+
+        /**
+         * Makes the changes that {@code mutation}, which has just been applied to the data, made to its persons and
+         * jobs.
+         */
+        void update(Mutation mutation) {
+            if (mutation instanceof Mutation.AddPerson m) {
+                putPerson(m.person());
+            } else if (mutation instanceof Mutation.SetPerson m) {
+                persons.remove(m.target().getName());
+                putPerson(m.editedPerson());
+            } else if (mutation instanceof Mutation.DeletePerson m) {
+                persons.remove(m.target().getName());
+            } else if (mutation instanceof Mutation.AddJob m) {
+                putJob(m.job());
+            } else if (mutation instanceof Mutation.SetJob m) {
+                jobs.remove(m.target().getJobTitle());
+                putJob(m.editedJob());
+            } else if (mutation instanceof Mutation.DeleteJob m) {
+                jobs.remove(m.target().getJobTitle());
+            }
+        }
+
+        private void putPerson(Person person) {
+            persons.put(person.getName(), person);
+        }
+
+        private void putJob(Job job) {
+            jobs.put(job.getJobTitle(), job);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.School;
 import seedu.address.model.skill.Skill;
+import seedu.address.model.util.CanonicalValues;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -108,17 +109,17 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = CanonicalValues.address(address);
 
         if (school == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, School.class.getSimpleName()));
         }
-        final School modelSchool = new School(school);
+        final School modelSchool = CanonicalValues.school(school);
 
         if (degree == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Degree.class.getSimpleName()));
         }
-        final Degree modelDegree = new Degree(degree);
+        final Degree modelDegree = CanonicalValues.degree(degree);
 
         final Set<Skill> modelSkills = new HashSet<>(personSkills);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelSchool, modelDegree, modelSkills);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.skill.Skill;
+import seedu.address.model.util.CanonicalValues;
 
 /**
  * Jackson-friendly version of {@link Skill}.
@@ -42,7 +43,7 @@ class JsonAdaptedSkill {
         if (!Skill.isValidSkillName(skillName)) {
             throw new IllegalValueException(Skill.MESSAGE_CONSTRAINTS);
         }
-        return new Skill(skillName);
+        return CanonicalValues.skill(skillName);
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,6 +13,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 
 /**
@@ -23,9 +25,19 @@ public class JsonApplicationsManagerStorage implements ApplicationsManagerStorag
     private static final Logger logger = LogsCenter.getLogger(JsonApplicationsManagerStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonApplicationsManagerStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which is written all on one line if
+     * {@code isCompact} is true.
+     */
+    public JsonApplicationsManagerStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getApplicationsManagerFilePath() {
@@ -33,27 +45,33 @@ public class JsonApplicationsManagerStorage implements ApplicationsManagerStorag
     }
 
     @Override
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException {
-        return readApplicationsManager(filePath);
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        return readApplicationsManager(filePath, addressBook);
     }
 
     /**
-     * Similar to {@link #readApplicationsManager()}.
+     * Similar to {@link #readApplicationsManager(ReadOnlyAddressBook)}.
      *
      * @param filePath location of the data. Cannot be null.
+     * @param addressBook the address book that the applicants and jobs are resolved against. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(addressBook);
 
-        Optional<JsonSerializableApplicationsManager> jsonApplicationsManager = JsonUtil.readJsonFile(filePath,
-                JsonSerializableApplicationsManager.class);
-        if (!jsonApplicationsManager.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonApplicationsManager.get().toModelType());
+        try (JsonRecordReader reader = new JsonRecordReader(filePath)) {
+            return Optional.of(JsonSerializableApplicationsManager.readModelType(reader, addressBook));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -76,6 +94,6 @@ public class JsonApplicationsManagerStorage implements ApplicationsManagerStorag
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableApplicationsManager(applicationsManager), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableApplicationsManager(applicationsManager), filePath, isCompact);
     }
 }
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Model;
+import seedu.address.model.Mutation;
+
+/**
+ * A class to access the journal of mutations stored as a file of json lines on the hard disk.
+ * The first line identifies the snapshot the journal belongs to, and every following line holds one mutation.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    /** Suffix of the name a journal file is given when it is moved aside as its mutations cannot be replayed. */
+    public static final String SET_ASIDE_FILE_SUFFIX = ".unreplayed";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void startJournal(long snapshotId) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        write(tempFilePath, JsonUtil.toCompactJsonString(new JsonJournalHeader(snapshotId)) + "\n",
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    @Override
+    public void appendToJournal(List<Mutation> mutations) throws IOException {
+        requireNonNull(mutations);
+
+        StringBuilder lines = new StringBuilder();
+        for (Mutation mutation : mutations) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedMutation.of(mutation))).append('\n');
+        }
+        write(filePath, lines.toString(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes {@code content} to the file at {@code path}, opened with the given {@code options}, and forces it to
+     * the disk.
+     */
+    private static void write(Path path, String content, StandardOpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public OptionalInt replayJournal(Model model, long snapshotId) throws DataLoadingException {
+        requireNonNull(model);
+
+        if (!Files.exists(filePath)) {
+            return OptionalInt.empty();
+        }
+
+        List<String> lines;
+        JsonJournalHeader header;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+            header = lines.isEmpty() ? null : JsonUtil.fromJsonString(lines.get(0), JsonJournalHeader.class);
+        } catch (IOException e) {
+            logger.severe("Error reading from journal file " + filePath + ": " + e);
+            setAside();
+            throw new DataLoadingException(e);
+        }
+        if (header == null || header.snapshotId != snapshotId) {
+            if (lines.size() > 1) {
+                logger.severe("Journal file " + filePath + " holds " + (lines.size() - 1)
+                        + " mutations but does not belong to the current data files, so they cannot be replayed.");
+                setAside();
+            } else {
+                logger.info("Journal file " + filePath + " does not belong to the current data files, ignoring it.");
+            }
+            return OptionalInt.empty();
+        }
+
+        JsonAdaptedMutation.Participants participants = new JsonAdaptedMutation.Participants(model.getAddressBook());
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedMutation mutation;
+            try {
+                mutation = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedMutation.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // The last mutation was only partly written before the app stopped, so it was never saved.
+                    logger.warning("Ignoring incompletely written last line of journal file " + filePath);
+                    return OptionalInt.empty();
+                }
+                logger.severe("Error reading from journal file " + filePath + ": " + e);
+                setAside();
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                Mutation modelMutation = mutation.toModelType(participants);
+                modelMutation.applyTo(model);
+                participants.update(modelMutation);
+            } catch (IllegalValueException | RuntimeException e) {
+                // The model rejects mutations that do not fit its data with runtime exceptions.
+                logger.severe("Mutation on line " + (i + 1) + " of journal file " + filePath
+                        + " could not be applied: " + e);
+                setAside();
+                throw new DataLoadingException(e);
+            }
+        }
+        logger.info("Replayed " + (lines.size() - 1) + " mutations from journal file " + filePath);
+        return OptionalInt.of(lines.size() - 1);
+    }
+
+    /**
+     * Moves the journal file, whose mutations cannot be replayed, next to where it is, so that the mutations are not
+     * lost when a new journal is started and can still be recovered by hand.
+     */
+    private void setAside() {
+        Path setAsideFilePath = filePath.resolveSibling(filePath.getFileName() + "." + System.currentTimeMillis()
+                + SET_ASIDE_FILE_SUFFIX);
+        try {
+            Files.move(filePath, setAsideFilePath);
+            logger.severe("Moved journal file " + filePath + " to " + setAsideFilePath
+                    + ". Its mutations are not part of the data.");
+        } catch (IOException e) {
+            logger.severe("Could not move journal file " + filePath + " to " + setAsideFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Jackson-friendly first line of the journal file.
+     */
+    private static class JsonJournalHeader {
+        private final long snapshotId;
+
+        @JsonCreator
+        JsonJournalHeader(@JsonProperty("snapshotId") long snapshotId) {
+            this.snapshotId = snapshotId;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads a JSON data file holding a single object, one field at a time, without reading the file into memory as a
+ * whole. Fields holding lists of records, such as persons, are read one record at a time. Their records are converted
+ * into model objects in parallel batches, and handed on in the order they appear in the file.
+ * Invalid records are reported together with their position in the file.
+ */
+class JsonRecordReader implements Closeable {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Data file does not hold a JSON object.";
+    public static final String MESSAGE_NOT_A_LIST = "Field %s does not hold a list.";
+    public static final String MESSAGE_MISSING_RECORD = "Record is missing!";
+    public static final String MESSAGE_INVALID_RECORD = "Invalid %s[%d] at line %d, column %d: %s";
+
+    /** Number of records converted together by a single task. */
+    static final int BATCH_SIZE = 512;
+
+    // Bounds the number of records read but not yet handed on, in case conversion is slower than reading.
+    private static final int MAX_PENDING_BATCHES = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final JsonParser parser;
+    private String fieldName;
+
+    /**
+     * Converts a record read from the file into a model object. May be called from any thread.
+     */
+    @FunctionalInterface
+    interface RecordConverter<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * Receives the converted model objects of a list, in the order they appear in the file.
+     */
+    @FunctionalInterface
+    interface RecordConsumer<M> {
+        void accept(M model) throws IllegalValueException;
+    }
+
+    /**
+     * Opens the data file at {@code filePath} for reading.
+     *
+     * @throws IOException if the file cannot be opened or read.
+     * @throws IllegalValueException if the file does not hold a JSON object.
+     */
+    JsonRecordReader(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        parser = JsonUtil.createParser(filePath);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+        }
+    }
+
+    /**
+     * Moves to the next field of the object and returns its name, or returns {@code Optional.empty()} if there are
+     * no more fields. The value of the field must then be read with {@link #readValue(Class)},
+     * {@link #readRecords(Class, RecordConverter, RecordConsumer)} or {@link #skipValue()}.
+     */
+    Optional<String> nextField() throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return Optional.empty();
+        }
+        fieldName = parser.getCurrentName();
+        parser.nextToken();
+        return Optional.of(fieldName);
+    }
+
+    /**
+     * Reads the value of the current field as an instance of {@code type}.
+     */
+    <T> T readValue(Class<T> type) throws IOException {
+        return parser.readValueAs(type);
+    }
+
+    /**
+     * Skips the value of the current field.
+     */
+    void skipValue() throws IOException {
+        parser.skipChildren();
+    }
+
+    /**
+     * Reads the list of records in the current field, converts each record with {@code converter} and hands the
+     * converted model objects to {@code consumer}. A {@code null} list is read as an empty list.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if the field does not hold a list, or if {@code converter} or {@code consumer}
+     *     rejects a record, in which case the message gives the position of the record.
+     */
+    <A, M> void readRecords(Class<A> recordClass, RecordConverter<? super A, ? extends M> converter,
+            RecordConsumer<? super M> consumer) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_A_LIST, fieldName));
+        }
+
+        Deque<PendingBatch<A, M>> pendingBatches = new ArrayDeque<>();
+        try {
+            Batch<A> batch = new Batch<>(fieldName, 0);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonLocation location = parser.getTokenLocation();
+                batch.add(parser.readValueAs(recordClass), location);
+                if (batch.size() == BATCH_SIZE) {
+                    pendingBatches.add(new PendingBatch<>(batch, converter));
+                    batch = new Batch<>(fieldName, batch.firstIndex + BATCH_SIZE);
+                }
+                if (pendingBatches.size() > MAX_PENDING_BATCHES) {
+                    pendingBatches.remove().handTo(consumer);
+                }
+            }
+            pendingBatches.add(new PendingBatch<>(batch, converter));
+            while (!pendingBatches.isEmpty()) {
+                pendingBatches.remove().handTo(consumer);
+            }
+        } finally {
+            pendingBatches.forEach(pendingBatch -> pendingBatch.models.cancel(false));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * Consecutive records of a list, each with the location in the file where it starts.
+     */
+    private static class Batch<A> {
+        private final String listName;
+        private final int firstIndex;
+        private final List<A> records = new ArrayList<>(BATCH_SIZE);
+        private final List<JsonLocation> locations = new ArrayList<>(BATCH_SIZE);
+
+        Batch(String listName, int firstIndex) {
+            this.listName = listName;
+            this.firstIndex = firstIndex;
+        }
+
+        void add(A record, JsonLocation location) {
+            records.add(record);
+            locations.add(location);
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        /**
+         * Converts the records with {@code converter}, and releases them.
+         *
+         * @throws CompletionException wrapping an {@code IllegalValueException} if a record cannot be converted.
+         */
+        <M> List<M> convert(RecordConverter<? super A, ? extends M> converter) {
+            List<M> models = new ArrayList<>(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                try {
+                    if (records.get(i) == null) {
+                        throw new IllegalValueException(MESSAGE_MISSING_RECORD);
+                    }
+                    models.add(converter.convert(records.get(i)));
+                } catch (IllegalValueException ive) {
+                    throw new CompletionException(errorAt(i, ive));
+                }
+            }
+            records.clear();
+            return models;
+        }
+
+        /**
+         * Returns an exception for the record at index {@code i} of this batch, which was rejected with
+         * {@code cause}.
+         */
+        IllegalValueException errorAt(int i, IllegalValueException cause) {
+            JsonLocation location = locations.get(i);
+            return new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, listName, firstIndex + i,
+                    location.getLineNr(), location.getColumnNr(), cause.getMessage()), cause);
+        }
+    }
+
+    /**
+     * A batch of records being converted in the background.
+     */
+    private static class PendingBatch<A, M> {
+        private final Batch<A> batch;
+        private final CompletableFuture<List<M>> models;
+
+        PendingBatch(Batch<A> batch, RecordConverter<? super A, ? extends M> converter) {
+            this.batch = batch;
+            this.models = CompletableFuture.supplyAsync(() -> batch.convert(converter));
+        }
+
+        /**
+         * Waits for the records to be converted, then hands the model objects to {@code consumer} in order.
+         */
+        void handTo(RecordConsumer<? super M> consumer) throws IllegalValueException {
+            List<M> converted;
+            try {
+                converted = models.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IllegalValueException ive) {
+                    throw ive;
+                } else if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+            for (int i = 0; i < converted.size(); i++) {
+                try {
+                    consumer.accept(converted.get(i));
+                } catch (IllegalValueException ive) {
+                    throw batch.errorAt(i, ive);
+                }
+            }
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.job.Job;
@@ -23,8 +25,8 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_JOB = "Jobs list contains duplicate job(s).";
 
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
-    private final List<JsonAdaptedJob> jobs = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedJob> jobs;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons and
@@ -33,19 +35,20 @@ class JsonSerializableAddressBook {
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
             @JsonProperty("jobs") List<JsonAdaptedJob> jobs) {
-        this.persons.addAll(persons);
-        this.jobs.addAll(jobs);
+        this.persons = new ArrayList<>(persons);
+        this.jobs = new ArrayList<>(jobs);
     }
 
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
      *
-     * @param source future changes to this will not affect the created
-     *               {@code JsonSerializableAddressBook}.
+     * Persons and jobs are adapted one at a time as they are serialized, rather than all at once.
+     *
+     * @param source must not change while the created {@code JsonSerializableAddressBook} is in use.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        jobs.addAll(source.getJobList().stream().map(JsonAdaptedJob::new).collect(Collectors.toList()));
+        persons = CollectionUtil.mappedView(source.getPersonList(), JsonAdaptedPerson::new);
+        jobs = CollectionUtil.mappedView(source.getJobList(), JsonAdaptedJob::new);
     }
 
     /**
@@ -56,20 +59,53 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addPerson(addressBook, jsonAdaptedPerson.toModelType());
         }
         for (JsonAdaptedJob jsonAdaptedJob : jobs) {
-            Job job = jsonAdaptedJob.toModelType();
-            if (addressBook.hasJob(job)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
+            addJob(addressBook, jsonAdaptedJob.toModelType());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book from {@code reader} one person and job at a time, like {@link #toModelType()} but
+     * without binding the whole data file to this class first.
+     *
+     * @throws IOException if the data file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readModelType(JsonRecordReader reader) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Optional<String> field = reader.nextField(); field.isPresent(); field = reader.nextField()) {
+            switch (field.get()) {
+            case "persons":
+                reader.readRecords(JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType,
+                        person -> addPerson(addressBook, person));
+                break;
+            case "jobs":
+                reader.readRecords(JsonAdaptedJob.class, JsonAdaptedJob::toModelType,
+                        job -> addJob(addressBook, job));
+                break;
+            default:
+                reader.skipValue();
+                break;
             }
-            addressBook.addJob(job);
         }
         return addressBook;
     }
 
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    private static void addJob(AddressBook addressBook, Job job) throws IllegalValueException {
+        if (addressBook.hasJob(job)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
+        }
+        addressBook.addJob(job);
+    }
+
 }
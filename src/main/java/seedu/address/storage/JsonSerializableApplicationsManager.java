@@ -1,67 +1,181 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * An Immutable ApplicationsManager that is serializable to JSON format.
+ * Data files without a format version are in the legacy format, where every application embeds its full applicant
+ * and job. They are migrated to the current format the next time the applications manager is saved.
  */
 @JsonRootName(value = "applicationsmanager")
 class JsonSerializableApplicationsManager {
 
+    public static final int LEGACY_FORMAT_VERSION = 1;
+    public static final int CURRENT_FORMAT_VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_APPLICATION = "Applications list contains duplicate application(s).";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION = "Applications data file has unsupported format"
+            + " version %d; the latest supported version is %d.";
+    public static final String MESSAGE_SKIPPED_APPLICATION = "Skipping an application whose applicant or job is not"
+            + " in the address book.";
 
-    private final List<JsonAdaptedApplication> applications = new ArrayList<>();
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableApplicationsManager.class);
+
+    private final int formatVersion;
+    private final List<JsonAdaptedApplication> applications;
 
     /**
      * Constructs a {@code JsonSerializableApplicationsManager} with the given
-     * applications.
+     * format version and applications.
      */
     @JsonCreator
-    public JsonSerializableApplicationsManager(
+    public JsonSerializableApplicationsManager(@JsonProperty("formatVersion") Integer formatVersion,
             @JsonProperty("applications") List<JsonAdaptedApplication> applications) {
-        this.applications.addAll(applications);
+        this.formatVersion = formatVersion == null ? LEGACY_FORMAT_VERSION : formatVersion;
+        this.applications = new ArrayList<>(applications);
     }
 
     /**
      * Converts a given {@code ReadOnlyApplicationsManager} into this class for
-     * Jackson use.
+     * Jackson use. Applications are adapted one at a time as they are serialized,
+     * rather than all at once.
      *
-     * @param source future changes to this will not affect the created
-     *               {@code JsonSerializableApplicationsManager}.
+     * @param source must not change while the created
+     *               {@code JsonSerializableApplicationsManager} is in use.
      */
     public JsonSerializableApplicationsManager(ReadOnlyApplicationsManager source) {
-        applications.addAll(
-                source.getApplicationList().stream().map(JsonAdaptedApplication::new).collect(Collectors.toList()));
+        formatVersion = CURRENT_FORMAT_VERSION;
+        applications = CollectionUtil.mappedView(source.getApplicationList(), JsonAdaptedApplication::new);
     }
 
     /**
      * Converts this applications manager into the model's
-     * {@code ApplicationsManager} object.
+     * {@code ApplicationsManager} object, resolving the applicant and job of every
+     * application against {@code addressBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public ApplicationsManager toModelType() throws IllegalValueException {
+    public ApplicationsManager toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        requireNonNull(addressBook);
+        checkFormatVersion(formatVersion);
+
+        Map<Name, Person> persons = getPersonsByName(addressBook);
+        Map<JobTitle, Job> jobs = getJobsByTitle(addressBook);
         ApplicationsManager applicationsManager = new ApplicationsManager();
 
         for (JsonAdaptedApplication jsonAdaptedApplication : applications) {
-            Application application = jsonAdaptedApplication.toModelType();
-            if (applicationsManager.hasApplication(application)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
+            Optional<Application> application = toApplication(jsonAdaptedApplication, persons, jobs);
+            if (application.isPresent()) {
+                addApplication(applicationsManager, application.get());
+            }
+        }
+
+        return applicationsManager;
+    }
+
+    /**
+     * Reads an applications manager from {@code reader} one application at a
+     * time, like {@link #toModelType(ReadOnlyAddressBook)} but without binding
+     * the whole data file to this class first.
+     *
+     * @throws IOException if the data file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ApplicationsManager readModelType(JsonRecordReader reader, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        requireNonNull(addressBook);
+
+        // Only read while the applications are converted in parallel.
+        Map<Name, Person> persons = getPersonsByName(addressBook);
+        Map<JobTitle, Job> jobs = getJobsByTitle(addressBook);
+        ApplicationsManager applicationsManager = new ApplicationsManager();
+
+        for (Optional<String> field = reader.nextField(); field.isPresent(); field = reader.nextField()) {
+            switch (field.get()) {
+            case "formatVersion":
+                checkFormatVersion(reader.readValue(Integer.class));
+                break;
+            case "applications":
+                reader.readRecords(JsonAdaptedApplication.class,
+                        application -> toApplication(application, persons, jobs),
+                        application -> {
+                            if (application.isPresent()) {
+                                addApplication(applicationsManager, application.get());
+                            }
+                        });
+                break;
+            default:
+                reader.skipValue();
+                break;
             }
-            applicationsManager.addApplication(application);
         }
 
         return applicationsManager;
     }
+
+    private static void checkFormatVersion(Integer formatVersion) throws IllegalValueException {
+        if (formatVersion != null && formatVersion > CURRENT_FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion,
+                    CURRENT_FORMAT_VERSION));
+        }
+    }
+
+    private static Map<Name, Person> getPersonsByName(ReadOnlyAddressBook addressBook) {
+        Map<Name, Person> persons = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getName(), person));
+        return persons;
+    }
+
+    private static Map<JobTitle, Job> getJobsByTitle(ReadOnlyAddressBook addressBook) {
+        Map<JobTitle, Job> jobs = new HashMap<>();
+        addressBook.getJobList().forEach(job -> jobs.put(job.getJobTitle(), job));
+        return jobs;
+    }
+
+    /**
+     * Converts {@code application}, or returns an empty {@code Optional} if its applicant or job is not in the
+     * address book. The data files may disagree after one of them was edited by hand, or, in the legacy format,
+     * because applications were not kept consistent with the address book. Such an application is logged and
+     * skipped, so that one dangling application does not lose all the others by failing the whole load.
+     */
+    private static Optional<Application> toApplication(JsonAdaptedApplication application, Map<Name, Person> persons,
+            Map<JobTitle, Job> jobs) throws IllegalValueException {
+        if (!application.isResolvableIn(persons, jobs)) {
+            logger.warning(MESSAGE_SKIPPED_APPLICATION);
+            return Optional.empty();
+        }
+        return Optional.of(application.toModelType(persons, jobs));
+    }
+
+    private static void addApplication(ApplicationsManager applicationsManager, Application application)
+            throws IllegalValueException {
+        if (applicationsManager.hasApplication(application)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
+        }
+        applicationsManager.addApplication(application);
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+
+/**
+ * Represents a cache of the data in the data files, which is faster to read than the data files themselves.
+ * The data files remain the source of truth: the cache records the ID of the data files it was written for, made from
+ * their sizes and last modified times, and is only read while the data files still have that ID.
+ */
+public interface SnapshotCacheStorage {
+
+    /**
+     * The address book and applications manager read from the cache.
+     */
+    record CachedData(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager) {
+        public CachedData {
+            requireAllNonNull(addressBook, applicationsManager);
+        }
+    }
+
+    /**
+     * Returns the file path of the cache.
+     */
+    Path getSnapshotCacheFilePath();
+
+    /**
+     * Returns the data in the cache, or {@code Optional.empty()} if the cache is not found or was written for data
+     * files with an ID other than {@code snapshotId}.
+     *
+     * @throws DataLoadingException if the cache could not be read.
+     */
+    Optional<CachedData> readSnapshotCache(long snapshotId) throws DataLoadingException;
+
+    /**
+     * Replaces the cache with {@code addressBook} and {@code applicationsManager}, which were saved to the data files
+     * with ID {@code snapshotId}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSnapshotCache(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager,
+            long snapshotId) throws IOException;
+}
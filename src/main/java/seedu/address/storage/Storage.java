@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.Mutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -34,9 +37,59 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Applicati
     Path getApplicationsManagerFilePath();
 
     @Override
-    Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException;
+    Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
 
     @Override
     void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager) throws IOException;
 
+    /**
+     * Completes a save of the data as a whole that was interrupted when the app last stopped, or discards it if it
+     * was interrupted before the new data was written in full. Must be called before any data is read.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void completeInterruptedSave() throws IOException;
+
+    /**
+     * Returns the data in the snapshot cache, or {@code Optional.empty()} if there is no cache for the data files as
+     * they are now. The data is the same as reading the address book and applications manager from the data files.
+     *
+     * @throws DataLoadingException if the cache could not be read.
+     */
+    Optional<SnapshotCacheStorage.CachedData> readSnapshotCache() throws DataLoadingException;
+
+    /**
+     * Saves {@code mutations}, which were made to {@code addressBook} and {@code applicationsManager} since they
+     * were last saved. The mutations are appended to the journal, unless it is time to save the data as a whole.
+     * If saving them fails, the data is saved as a whole by the next save.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveMutations(List<Mutation> mutations, ReadOnlyAddressBook addressBook,
+            ReadOnlyApplicationsManager applicationsManager) throws IOException;
+
+    /**
+     * Stops appending to the journal, so that the data is saved as a whole by the next {@link #saveMutations} or
+     * {@link #compactJournal}. Used when mutations made to the data could not be handed over to be saved.
+     */
+    void discardJournal();
+
+    /**
+     * Saves {@code addressBook} and {@code applicationsManager} as a whole if the journal holds any mutations, so
+     * that the data files are up to date and the journal is empty again.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compactJournal(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager)
+            throws IOException;
+
+    /**
+     * Applies to {@code model}, which must hold the data read from the data files, the mutations journaled since the
+     * data files were saved.
+     *
+     * @throws DataLoadingException if reading or applying the mutations failed.
+     */
+    void replayJournal(Model model) throws DataLoadingException;
+
 }
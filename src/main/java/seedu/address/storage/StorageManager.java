@@ -1,12 +1,26 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.Mutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -17,20 +31,65 @@ import seedu.address.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    /** Number of mutations the journal may hold before the data is saved as a whole instead. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+    /** Time after which a journal holding any mutations is replaced by saving the data as a whole on the next save. */
+    public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+
+    /** Suffix of the files that new versions of the data files are written to before they replace them. */
+    public static final String PENDING_FILE_SUFFIX = ".pending";
+    /** Suffix of the journal file name that names the marker of a save of the data files that must be completed. */
+    public static final String COMMIT_MARKER_SUFFIX = ".commit";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private ApplicationsManagerStorage applicationsManagerStorage;
+    private JournalStorage journalStorage;
+    private SnapshotCacheStorage snapshotCacheStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final int compactionThreshold;
+    private final Duration compactionInterval;
+
+    // Number of mutations in the journal, or empty if the journal does not fit the data files and cannot be
+    // appended to.
+    private OptionalInt journalSize = OptionalInt.empty();
+    // The value of System.nanoTime() when the journal was started or replayed.
+    private long journalStartTime;
+    // Whether the data has changed since it was last saved as a whole.
+    private boolean isSnapshotOutdated;
+    // Whether the snapshot cache may not match the data files.
+    private boolean isSnapshotCacheOutdated = true;
+
+    // The data last written to each data file, so that writing the same unchanged data again can be skipped.
+    private SavedData savedAddressBook;
+    private SavedData savedApplicationsManager;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage},
-     * {@code ApplicationsManagerStorage}, and {@code UserPrefStorage}.
+     * {@code ApplicationsManagerStorage}, {@code JournalStorage}, {@code SnapshotCacheStorage} and
+     * {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, ApplicationsManagerStorage applicationsManagerStorage,
+            JournalStorage journalStorage, SnapshotCacheStorage snapshotCacheStorage,
             UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, applicationsManagerStorage, journalStorage, snapshotCacheStorage, userPrefsStorage,
+                DEFAULT_COMPACTION_THRESHOLD, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code StorageManager} whose journal holds at most {@code compactionThreshold} mutations, and is
+     * replaced on the next save once it has held mutations for {@code compactionInterval}.
+     */
+    StorageManager(AddressBookStorage addressBookStorage, ApplicationsManagerStorage applicationsManagerStorage,
+            JournalStorage journalStorage, SnapshotCacheStorage snapshotCacheStorage,
+            UserPrefsStorage userPrefsStorage, int compactionThreshold, Duration compactionInterval) {
         this.addressBookStorage = addressBookStorage;
         this.applicationsManagerStorage = applicationsManagerStorage;
+        this.journalStorage = journalStorage;
+        this.snapshotCacheStorage = snapshotCacheStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionInterval = compactionInterval;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,8 +134,14 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        SavedData toSave = new SavedData(filePath, addressBook, addressBook.getModificationCount());
+        if (toSave.isSameAs(savedAddressBook)) {
+            logger.fine("Skipping write to unchanged data file: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBook = toSave;
     }
 
     // ================ ApplicationsManager methods ==============================
@@ -86,14 +151,16 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException {
-        return readApplicationsManager(applicationsManagerStorage.getApplicationsManagerFilePath());
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        return readApplicationsManager(applicationsManagerStorage.getApplicationsManagerFilePath(), addressBook);
     }
 
     @Override
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return applicationsManagerStorage.readApplicationsManager(filePath);
+        return applicationsManagerStorage.readApplicationsManager(filePath, addressBook);
     }
 
     @Override
@@ -104,8 +171,243 @@ public class StorageManager implements Storage {
     @Override
     public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager, Path filePath)
             throws IOException {
+        SavedData toSave = new SavedData(filePath, applicationsManager, applicationsManager.getModificationCount());
+        if (toSave.isSameAs(savedApplicationsManager)) {
+            logger.fine("Skipping write to unchanged data file: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         applicationsManagerStorage.saveApplicationsManager(applicationsManager, filePath);
+        savedApplicationsManager = toSave;
+    }
+
+    // ================ Snapshot cache methods ==============================
+
+    @Override
+    public Optional<SnapshotCacheStorage.CachedData> readSnapshotCache() throws DataLoadingException {
+        if (!Files.exists(getAddressBookFilePath()) || !Files.exists(getApplicationsManagerFilePath())) {
+            return Optional.empty();
+        }
+        logger.fine("Attempting to read snapshot cache file: " + snapshotCacheStorage.getSnapshotCacheFilePath());
+        Optional<SnapshotCacheStorage.CachedData> cachedData;
+        try {
+            cachedData = snapshotCacheStorage.readSnapshotCache(getSnapshotId());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        isSnapshotCacheOutdated = cachedData.isEmpty();
+        return cachedData;
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public void saveMutations(List<Mutation> mutations, ReadOnlyAddressBook addressBook,
+            ReadOnlyApplicationsManager applicationsManager) throws IOException {
+        requireAllNonNull(mutations, addressBook, applicationsManager);
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        isSnapshotOutdated = true;
+        boolean hasReset = mutations.stream().anyMatch(Mutation::isReset);
+        if (journalSize.isEmpty() || hasReset || journalSize.getAsInt() + mutations.size() > compactionThreshold
+                || isJournalDueForCompaction()) {
+            saveSnapshot(addressBook, applicationsManager);
+            return;
+        }
+
+        logger.fine("Attempting to append to journal file: " + journalStorage.getJournalFilePath());
+        try {
+            journalStorage.appendToJournal(mutations);
+        } catch (IOException e) {
+            // The journal may now end in only some of the mutations, so it can no longer be appended to.
+            journalSize = OptionalInt.empty();
+            throw e;
+        }
+        journalSize = OptionalInt.of(journalSize.getAsInt() + mutations.size());
+    }
+
+    @Override
+    public void discardJournal() {
+        journalSize = OptionalInt.empty();
+        isSnapshotOutdated = true;
+    }
+
+    @Override
+    public void compactJournal(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager)
+            throws IOException {
+        requireAllNonNull(addressBook, applicationsManager);
+        if (isSnapshotOutdated) {
+            saveSnapshot(addressBook, applicationsManager);
+        } else if (isSnapshotCacheOutdated && journalSize.isPresent()) {
+            // The data files and the journal hold the same data, which is the data of the model.
+            saveSnapshotCache(addressBook, applicationsManager, getSnapshotId());
+        }
+    }
+
+    @Override
+    public void replayJournal(Model model) throws DataLoadingException {
+        logger.fine("Attempting to replay journal file: " + journalStorage.getJournalFilePath());
+        try {
+            journalSize = journalStorage.replayJournal(model, getSnapshotId());
+            journalStartTime = System.nanoTime();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        // The replayed mutations are already saved in the journal, so they are taken from the model here.
+        isSnapshotOutdated = !model.takeMutations().isEmpty();
+    }
+
+    @Override
+    public void completeInterruptedSave() throws IOException {
+        if (Files.exists(getCommitMarkerPath())) {
+            // Both data files were written in full before the save was interrupted, and hold the journaled mutations.
+            logger.warning("Completing the save of the data files that was interrupted when the app last stopped.");
+            commitSnapshot();
+            return;
+        }
+        // The save was interrupted before both data files were written, so the old data files and journal still hold
+        // the data.
+        for (Path dataFilePath : List.of(getAddressBookFilePath(), getApplicationsManagerFilePath())) {
+            Files.deleteIfExists(getPendingFilePath(dataFilePath));
+        }
+    }
+
+    /**
+     * Returns true if the journal has held mutations for at least the compaction interval.
+     */
+    private boolean isJournalDueForCompaction() {
+        return journalSize.isPresent() && journalSize.getAsInt() > 0
+                && System.nanoTime() - journalStartTime >= compactionInterval.toNanos();
+    }
+
+    /**
+     * Saves {@code addressBook} and {@code applicationsManager} as a whole, and starts an empty journal for them.
+     * The data files are replaced together: the new versions are written in full next to them first, and then a
+     * commit marker is written, after which {@link #completeInterruptedSave()} finishes the save even if the app
+     * stops before it is done. Until the marker is written, the old data files and journal are left as they were.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager)
+            throws IOException {
+        // The journal no longer fits the data files once they are being written.
+        journalSize = OptionalInt.empty();
+        isSnapshotCacheOutdated = true;
+
+        SavedData addressBookToSave = new SavedData(getAddressBookFilePath(), addressBook,
+                addressBook.getModificationCount());
+        SavedData applicationsManagerToSave = new SavedData(getApplicationsManagerFilePath(), applicationsManager,
+                applicationsManager.getModificationCount());
+        Path addressBookPendingFilePath = getPendingFilePath(getAddressBookFilePath());
+        if (addressBookToSave.isSameAs(savedAddressBook)) {
+            // A version left by an earlier save that failed must not replace the data file.
+            Files.deleteIfExists(addressBookPendingFilePath);
+        } else {
+            logger.fine("Attempting to write to data file: " + addressBookPendingFilePath);
+            addressBookStorage.saveAddressBook(addressBook, addressBookPendingFilePath);
+        }
+        Path applicationsManagerPendingFilePath = getPendingFilePath(getApplicationsManagerFilePath());
+        if (applicationsManagerToSave.isSameAs(savedApplicationsManager)) {
+            Files.deleteIfExists(applicationsManagerPendingFilePath);
+        } else {
+            logger.fine("Attempting to write to data file: " + applicationsManagerPendingFilePath);
+            applicationsManagerStorage.saveApplicationsManager(applicationsManager, applicationsManagerPendingFilePath);
+        }
+
+        writeCommitMarker();
+        commitSnapshot();
+        savedAddressBook = addressBookToSave;
+        savedApplicationsManager = applicationsManagerToSave;
+        isSnapshotOutdated = false;
+        saveSnapshotCache(addressBook, applicationsManager, getSnapshotId());
+    }
+
+    /**
+     * Replaces the data files with the new versions written next to them, starts an empty journal for them and
+     * removes the commit marker. Each step can be done again if the app stops before all are done.
+     */
+    private void commitSnapshot() throws IOException {
+        for (Path dataFilePath : List.of(getAddressBookFilePath(), getApplicationsManagerFilePath())) {
+            Path pendingFilePath = getPendingFilePath(dataFilePath);
+            if (Files.exists(pendingFilePath)) {
+                FileUtil.replaceFile(pendingFilePath, dataFilePath);
+            }
+        }
+        logger.fine("Attempting to start journal file: " + journalStorage.getJournalFilePath());
+        journalStorage.startJournal(getSnapshotId());
+        journalSize = OptionalInt.of(0);
+        journalStartTime = System.nanoTime();
+        Files.delete(getCommitMarkerPath());
+    }
+
+    private void writeCommitMarker() throws IOException {
+        Path commitMarkerPath = getCommitMarkerPath();
+        FileUtil.createParentDirsOfFile(commitMarkerPath);
+        try (FileChannel channel = FileChannel.open(commitMarkerPath, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.force(true);
+        }
+    }
+
+    private Path getCommitMarkerPath() {
+        Path journalFilePath = journalStorage.getJournalFilePath();
+        return journalFilePath.resolveSibling(journalFilePath.getFileName() + COMMIT_MARKER_SUFFIX);
+    }
+
+    private static Path getPendingFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + PENDING_FILE_SUFFIX);
+    }
+
+    /**
+     * Saves {@code addressBook} and {@code applicationsManager}, which were saved to the data files with ID
+     * {@code snapshotId}, to the snapshot cache. Failures are only logged, as the data files do not need the
+     * cache.
+     */
+    private void saveSnapshotCache(ReadOnlyAddressBook addressBook, ReadOnlyApplicationsManager applicationsManager,
+            long snapshotId) {
+        logger.fine("Attempting to write to snapshot cache file: " + snapshotCacheStorage.getSnapshotCacheFilePath());
+        try {
+            snapshotCacheStorage.saveSnapshotCache(addressBook, applicationsManager, snapshotId);
+            isSnapshotCacheOutdated = false;
+        } catch (IOException e) {
+            // An old cache left in place does not match the data files, so it is ignored when reading.
+            logger.warning("Could not write to snapshot cache file "
+                    + snapshotCacheStorage.getSnapshotCacheFilePath() + ": " + e);
+        }
+    }
+
+    /**
+     * Returns an ID of the data files as they are now, which identifies the snapshot a journal or the snapshot cache
+     * belongs to.
+     * The ID is made from the size and last modified time of each file, so that the files do not have to be read.
+     */
+    private long getSnapshotId() throws IOException {
+        ByteBuffer attributes = ByteBuffer.allocate(4 * Long.BYTES);
+        for (Path dataFilePath : List.of(getAddressBookFilePath(), getApplicationsManagerFilePath())) {
+            if (Files.exists(dataFilePath)) {
+                attributes.putLong(Files.size(dataFilePath));
+                attributes.putLong(Files.getLastModifiedTime(dataFilePath).to(TimeUnit.NANOSECONDS));
+            } else {
+                attributes.putLong(-1).putLong(-1);
+            }
+        }
+        CRC32 snapshotId = new CRC32();
+        snapshotId.update(attributes.flip());
+        return snapshotId.getValue();
+    }
+
+    /**
+     * Identifies the data written to a data file by the object it was written from and the modification count of
+     * that object at the time.
+     */
+    private record SavedData(Path filePath, Object source, long modificationCount) {
+        /**
+         * Returns true if {@code saved} is the same data as this, written from the very same object.
+         */
+        boolean isSameAs(SavedData saved) {
+            return saved != null && filePath.equals(saved.filePath) && source == saved.source
+                    && modificationCount == saved.modificationCount;
+        }
     }
 
 }
@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,7 +14,6 @@ import seedu.address.logic.Logic;
 import seedu.address.model.application.Application;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
-import seedu.address.model.skill.Skill;
 
 /**
  * Panel containing the list of jobs with a sidepane for additional information.
@@ -288,18 +286,7 @@ public class JobListPanel extends UiPart<Region> {
                 // This handles cases where the job title might have changed
                 for (Job job : jobListView.getItems()) {
                     // Check for overlapping skills as a heuristic
-                    Set<Skill> currentSkills = currentlyViewedJob.getSkills();
-                    Set<Skill> jobSkills = job.getSkills();
-                    boolean hasCommonSkills = false;
-
-                    for (Skill skill : currentSkills) {
-                        if (jobSkills.contains(skill)) {
-                            hasCommonSkills = true;
-                            break;
-                        }
-                    }
-
-                    if (hasCommonSkills) {
+                    if (currentlyViewedJob.getSkillSet().intersects(job.getSkillSet())) {
                         updatedJob = job;
                         break;
                     }
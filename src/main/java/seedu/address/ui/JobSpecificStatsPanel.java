@@ -1,8 +1,5 @@
 package seedu.address.ui;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import javafx.scene.chart.BarChart;
@@ -15,7 +12,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
-import seedu.address.model.application.Application;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.skill.Skill;
 
@@ -222,8 +219,7 @@ public class JobSpecificStatsPanel {
      * Updates the applicant count for the given job.
      */
     private void updateApplicantCount(Job job) {
-        List<Application> applications = logic.getFilteredApplicationsByJob(job);
-        int count = applications != null ? applications.size() : 0;
+        int count = logic.getFilteredRoundCounts(job).getTotal();
 
         // Update the label with a fun icon
         applicantCountLabel.setText("☺ Total Applicants: " + count);
@@ -233,32 +229,14 @@ public class JobSpecificStatsPanel {
      * Updates the round distribution chart for the given job.
      */
     private void updateRoundDistribution(Job job) {
-        List<Application> applications = logic.getFilteredApplicationsByJob(job);
+        RoundCounts roundCounts = logic.getFilteredRoundCounts(job);
         int totalRounds = job.getJobRounds().jobRounds;
 
         // Update the y-axis
         yAxis.setAutoRanging(false);
 
         // Calculate appropriate upper bound based on max count and total rounds
-        int maxCount = 0;
-
-        // Count applications by round
-        Map<Integer, Integer> roundCounts = new HashMap<>();
-
-        // Initialize all rounds with 0
-        for (int i = 0; i <= totalRounds; i++) {
-            roundCounts.put(i, 0);
-        }
-
-        // Count applicants in each round
-        if (applications != null) {
-            for (Application application : applications) {
-                int round = application.getApplicationStatus().applicationStatus;
-                int currentCount = roundCounts.getOrDefault(round, 0) + 1;
-                roundCounts.put(round, currentCount);
-                maxCount = Math.max(maxCount, currentCount);
-            }
-        }
+        int maxCount = roundCounts.getMax();
 
         // Set y-axis bounds with some padding and ensure minimum of 5
         int upperBound = Math.max(maxCount + 2, 5);
@@ -279,7 +257,7 @@ public class JobSpecificStatsPanel {
         roundDistributionChart.getData().clear();
 
         // If no applications, show default data
-        if (applications == null || applications.isEmpty()) {
+        if (roundCounts.getTotal() == 0) {
             XYChart.Series<String, Number> series = new XYChart.Series<>();
             series.setName("");
             series.getData().add(new XYChart.Data<>("No applicants", 0));
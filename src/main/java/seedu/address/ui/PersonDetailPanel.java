@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.ScrollPane;
@@ -11,12 +13,15 @@ import seedu.address.logic.Logic;
 import seedu.address.model.application.Application;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.skill.SkillMatch;
 
 /**
  * Panel that displays detailed information about a person.
  */
 public class PersonDetailPanel {
 
+    private static final int RECOMMENDED_JOB_COUNT = 5;
+
     private final Logic logic;
     private final VBox container;
     private final ScrollPane scrollPane;
@@ -30,6 +35,7 @@ public class PersonDetailPanel {
     private Label jobTitleLabel;
     private Label applicationStatusLabel;
     private ProgressBar progressBar;
+    private VBox recommendedJobsContainer;
 
     /**
      * Creates a {@code PersonDetailPanel} with the given {@code Logic}.
@@ -108,6 +114,8 @@ public class PersonDetailPanel {
             });
         }
 
+        updateRecommendedJobs(person);
+
         // Update application information
         if (job != null) {
             jobTitleLabel.setText(StringUtil.toTitleCase(job.getJobTitle().jobTitle()));
@@ -132,6 +140,36 @@ public class PersonDetailPanel {
         }
     }
 
+    /**
+     * Lists the jobs whose required skills best match the skills of {@code person}.
+     * The matches are looked up through the skill index of the address book, so this does not scan every job.
+     */
+    private void updateRecommendedJobs(Person person) {
+        recommendedJobsContainer.getChildren().clear();
+        List<SkillMatch<Job>> recommendations = logic.getRecommendedJobs(person, RECOMMENDED_JOB_COUNT);
+        if (recommendations.isEmpty()) {
+            Label noJobsLabel = new Label("No matching jobs");
+            noJobsLabel.getStyleClass().add("person-detail-label");
+            recommendedJobsContainer.getChildren().add(noJobsLabel);
+            return;
+        }
+
+        for (SkillMatch<Job> match : recommendations) {
+            Label titleLabel = new Label(StringUtil.toTitleCase(match.item().getJobTitle().jobTitle()));
+            titleLabel.getStyleClass().add("person-detail-value");
+
+            String missing = match.missingSkills() == 0
+                    ? "all skills matched"
+                    : match.missingSkills() + " missing skill" + (match.missingSkills() == 1 ? "" : "s");
+            Label missingLabel = new Label("(" + missing + ")");
+            missingLabel.getStyleClass().add("person-detail-label");
+
+            HBox jobBox = new HBox(10);
+            jobBox.getChildren().addAll(titleLabel, missingLabel);
+            recommendedJobsContainer.getChildren().add(jobBox);
+        }
+    }
+
     /**
      * Creates a container for the person details.
      */
@@ -250,6 +288,13 @@ public class PersonDetailPanel {
         skillsBox.getChildren().add(skillsContainer);
         container.getChildren().add(skillsBox);
 
+        // Add jobs recommended by skill match
+        VBox recommendedJobsBox = createInfoBox("Recommended Jobs");
+
+        recommendedJobsContainer = new VBox(5);
+        recommendedJobsBox.getChildren().add(recommendedJobsContainer);
+        container.getChildren().add(recommendedJobsBox);
+
         return container;
     }
 
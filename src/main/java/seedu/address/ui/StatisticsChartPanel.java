@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,9 +18,7 @@ import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import seedu.address.logic.Logic;
-import seedu.address.model.application.Application;
 import seedu.address.model.job.Job;
-import seedu.address.model.person.Person;
 
 /**
  * Panel that displays statistics charts for the application.
@@ -226,24 +225,25 @@ public class StatisticsChartPanel {
         // Clear any existing data
         jobDistributionChart.getData().clear();
 
+        // Count the applications of each job once, as the sort below compares each job several times
+        Map<Job, Integer> appCounts = new HashMap<>();
+        for (Job job : jobs) {
+            int appCount = logic.getFilteredRoundCounts(job).getTotal();
+            if (appCount > 0) {
+                appCounts.put(job, appCount);
+            }
+        }
+
         // Prepare the data with consistent order to get predictable colors
         List<Job> sortedJobs = jobs.stream()
-            .filter(job -> {
-                List<Application> applications = logic.getFilteredApplicationsByJob(job);
-                return applications != null && !applications.isEmpty();
-            })
-            .sorted((job1, job2) -> {
-                // Sort by number of applications (descending)
-                List<Application> apps1 = logic.getFilteredApplicationsByJob(job1);
-                List<Application> apps2 = logic.getFilteredApplicationsByJob(job2);
-                return Integer.compare(apps2.size(), apps1.size());
-            })
+            .filter(appCounts::containsKey)
+            // Sort by number of applications (descending)
+            .sorted((job1, job2) -> Integer.compare(appCounts.get(job2), appCounts.get(job1)))
             .toList();
 
         // Add data in a consistent order
         for (Job job : sortedJobs) {
-            List<Application> applications = logic.getFilteredApplicationsByJob(job);
-            int appCount = applications.size();
+            int appCount = appCounts.get(job);
             String jobName = job.getJobTitle().jobTitle();
 
             // Truncate job name for legend display
@@ -267,43 +267,21 @@ public class StatisticsChartPanel {
      * Updates the school distribution bar chart with current data.
      */
     private void updateSchoolDistributionChart() {
-        // Get all applications from jobs
-        List<Job> jobs = logic.getFilteredJobList();
-
-        // Use a set to collect unique persons to avoid duplicates
-        java.util.Set<Person> uniquePersons = new java.util.HashSet<>();
-
-        // Collect all unique persons from applications
-        for (Job job : jobs) {
-            // Use filtered applications to respect status filter
-            List<Application> applications = logic.getFilteredApplicationsByJob(job);
-            if (applications != null) {
-                for (Application app : applications) {
-                    Person person = app.getApplicant();
-                    if (person != null) {
-                        uniquePersons.add(person);
-                    }
-                }
+        // Unique applicants by school, counted by the model and respecting the status filter
+        Map<String, Integer> schoolCounts = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : logic.getFilteredApplicantCountsBySchool().entrySet()) {
+            String school = entry.getKey();
+            // Clean up the school name if needed
+            if (school.contains("@")) {
+                school = "Unknown School";
             }
-        }
-
-        // Count unique persons by school
-        Map<String, Integer> schoolCounts = new HashMap<>();
-        for (Person person : uniquePersons) {
-            if (person.getSchool() != null) {
-                String school = person.getSchool().value;
-                // Clean up the school name if needed
-                if (school.contains("@")) {
-                    school = "Unknown School";
-                }
-
-                // Truncate school name if too long
-                if (school.length() > 20) {
-                    school = school.substring(0, 17) + "...";
-                }
 
-                schoolCounts.put(school, schoolCounts.getOrDefault(school, 0) + 1);
+            // Truncate school name if too long
+            if (school.length() > 20) {
+                school = school.substring(0, 17) + "...";
             }
+
+            schoolCounts.merge(school, entry.getValue(), Integer::sum);
         }
 
         // Clear existing data first
@@ -355,32 +333,14 @@ public class StatisticsChartPanel {
      * Updates the summary statistics labels with current totals.
      */
     private void updateSummaryStatistics() {
-        List<Job> jobs = logic.getFilteredJobList();
-
-        // Calculate total applications (same logic as pie chart)
-        int totalApplications = 0;
+        // Calculate total applications (same counts as pie chart)
+        int totalApplications = logic.getFilteredRoundCounts().getTotal();
 
-        // Use a set to collect unique persons (same logic as bar chart)
-        java.util.Set<Person> uniquePersons = new java.util.HashSet<>();
-
-        for (Job job : jobs) {
-            // Use filtered applications to respect status filter
-            List<Application> applications = logic.getFilteredApplicationsByJob(job);
-            if (applications != null) {
-                totalApplications += applications.size();
-
-                // Also collect unique persons
-                for (Application app : applications) {
-                    Person person = app.getApplicant();
-                    if (person != null) {
-                        uniquePersons.add(person);
-                    }
-                }
-            }
-        }
+        // Count unique applicants (same applicants as bar chart)
+        int totalApplicants = logic.getFilteredApplicantCount();
 
         // Update the labels with more interesting format
         totalApplicationsLabel.setText("★ Total Applications: " + totalApplications);
-        totalApplicantsLabel.setText("☺ Unique Applicants: " + uniquePersons.size());
+        totalApplicantsLabel.setText("☺ Unique Applicants: " + totalApplicants);
     }
 }
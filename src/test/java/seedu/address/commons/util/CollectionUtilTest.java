@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -7,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -82,6 +84,24 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void mappedView() {
+        List<String> items = new ArrayList<>(List.of("a", "bb"));
+        List<Integer> view = CollectionUtil.mappedView(items, String::length);
+        assertEquals(List.of(1, 2), view);
+
+        // view follows changes to the underlying list
+        items.add("ccc");
+        assertEquals(List.of(1, 2, 3), view);
+
+        // view cannot be modified
+        assertThrows(UnsupportedOperationException.class, () -> view.add(4));
+
+        // null list or mapper -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> CollectionUtil.mappedView(null, String::length));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.mappedView(items, null));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
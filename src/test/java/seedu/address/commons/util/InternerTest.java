@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.School;
+
+public class InternerTest {
+
+    private final Interner<School> interner = new Interner<>(School::new, school -> school.value);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalStrings_returnsSameInstance() {
+        School school = interner.intern("nus");
+        assertSame(school, interner.intern(new String("nus")));
+        assertEquals(new School("nus"), school);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentStrings_returnsDifferentInstances() {
+        // equal schools, as trailing whitespace is ignored, but created from different strings
+        assertNotSame(interner.intern("nus"), interner.intern("nus "));
+        assertNotSame(interner.intern("nus"), interner.intern("ntu"));
+    }
+
+    @Test
+    public void intern_invalidValue_throwsAndAddsNothing() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("n@s"));
+        assertEquals(0, interner.size());
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,33 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void saveJsonFile_existingFile_replacesFileWithoutLeavingTempFile() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "old contents that are longer than the new JSON".repeat(20));
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(SERIALIZATION_FILE)));
+    }
+
+    @Test
+    public void saveJsonFile_compact_writesJsonOnOneLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, true);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(json.contains("\n"));
+        SerializableTestClass savedTestClass = JsonUtil.fromJsonString(json, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), savedTestClass.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), savedTestClass.getListOfLocalDateTimes());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), savedTestClass.getMapOfIntegerToString());
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -8,18 +8,27 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.DEGREE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DEGREE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.SCHOOL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SCHOOL_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,13 +42,16 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Mutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.application.Application;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BinarySnapshotCacheStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonApplicationsManagerStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.ApplicationBuilder;
@@ -49,6 +61,8 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SCHOOL_DESC_AMY + DEGREE_DESC_AMY;
 
     @TempDir
     public Path temporaryFolder;
@@ -62,9 +76,13 @@ public class LogicManagerTest {
                 temporaryFolder.resolve("addressBook.json"));
         JsonApplicationsManagerStorage applicationsManagerStorage = new JsonApplicationsManagerStorage(
                 temporaryFolder.resolve("applicationsManager.json"));
+        JsonJournalStorage journalStorage = new JsonJournalStorage(temporaryFolder.resolve("journal.jsonl"));
+        BinarySnapshotCacheStorage snapshotCacheStorage = new BinarySnapshotCacheStorage(
+                temporaryFolder.resolve("snapshot.cache"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, applicationsManagerStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        StorageManager storage = new StorageManager(addressBookStorage, applicationsManagerStorage, journalStorage,
+                snapshotCacheStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, Runnable::run);
 
         // Set the model's view state to PERSON_VIEW for the test commands to work
         model.setViewState(Model.ViewState.PERSON_VIEW);
@@ -89,17 +107,92 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION,
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("applicationsManager.json")));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_failureAddedToFeedback() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION,
                 String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION,
+    public void execute_storageThrowsAdException_failureAddedToFeedback() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION,
                 String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_appendingToJournalFailed_nextSaveSavesDataAsWhole() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        AtomicInteger appendCount = new AtomicInteger();
+        JsonJournalStorage journalStorage = new JsonJournalStorage(temporaryFolder.resolve("journal.jsonl")) {
+            @Override
+            public void appendToJournal(List<Mutation> mutations) throws IOException {
+                if (appendCount.incrementAndGet() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.appendToJournal(mutations);
+            }
+        };
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonApplicationsManagerStorage(temporaryFolder.resolve("applicationsManager.json")),
+                journalStorage, new BinarySnapshotCacheStorage(temporaryFolder.resolve("snapshot.cache")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        logic.execute(ADD_AMY_COMMAND);
+        CommandResult result = logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+                + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + SCHOOL_DESC_BOB + DEGREE_DESC_BOB);
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())));
+
+        // the person whose addition could not be journaled is saved with the next change
+        logic.execute("del 1");
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+        assertEquals(1, appendCount.get());
+    }
+
+    @Test
+    public void execute_saveFailsInBackground_failureReportedByNextCommand() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        List<Runnable> saveTasks = new ArrayList<>();
+        logic = new LogicManager(model, createStorageFailingToSave(DUMMY_IO_EXCEPTION, saveCount), saveTasks::add);
+
+        // changes made before a save starts are saved together, after the commands that made them
+        logic.execute(ADD_AMY_COMMAND);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB
+                + SCHOOL_DESC_BOB + DEGREE_DESC_BOB);
+        assertEquals(1, saveTasks.size());
+        assertEquals(0, saveCount.get());
+        saveTasks.forEach(Runnable::run);
+        assertEquals(1, saveCount.get());
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), model);
+
+        // the failure is only reported once
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void flush_changesSavedInBackground_savesChanges() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("flushedAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonApplicationsManagerStorage(temporaryFolder.resolve("flushedApplicationsManager.json")),
+                new JsonJournalStorage(temporaryFolder.resolve("flushedJournal.jsonl")),
+                new BinarySnapshotCacheStorage(temporaryFolder.resolve("flushedSnapshot.cache")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("flushedUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ADD_AMY_COMMAND);
+        logic.flush();
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         org.junit.jupiter.api.Assertions.assertThrows(
@@ -416,16 +509,33 @@ public class LogicManagerTest {
      * Storage component.
      *
      * @param e               the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the
-     *                        Logic component
+     * @param expectedMessage the message expected after the feedback of the command
+     *                        whose changes could not be saved
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e
-        // when saving
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
+        logic = new LogicManager(model, createStorageFailingToSave(e, new AtomicInteger()), Runnable::run);
+
+        // Triggers the saveAddressBook method by executing an add command
+        Person expectedPerson = new PersonBuilder(AMY).withSkills().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        // Set view state to match the actual model
+        expectedModel.setViewState(model.getCurrentViewState());
+        assertCommandSuccess(ADD_AMY_COMMAND, String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedPerson)) + "\n" + expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose address book storage throws {@code e} when saving, counting the attempts
+     * in {@code saveCount}.
+     */
+    private StorageManager createStorageFailingToSave(IOException e, AtomicInteger saveCount) {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
                 temporaryFolder.resolve("ExceptionAddressBook.json")) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
                 throw e;
             }
         };
@@ -433,20 +543,14 @@ public class LogicManagerTest {
         JsonApplicationsManagerStorage applicationsManagerStorage = new JsonApplicationsManagerStorage(
                 temporaryFolder.resolve("ExceptionApplicationsManager.json"));
 
-        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(
-                temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, applicationsManagerStorage, userPrefsStorage);
+        JsonJournalStorage journalStorage = new JsonJournalStorage(temporaryFolder.resolve("ExceptionJournal.jsonl"));
 
-        logic = new LogicManager(model, storage);
+        BinarySnapshotCacheStorage snapshotCacheStorage = new BinarySnapshotCacheStorage(
+                temporaryFolder.resolve("ExceptionSnapshot.cache"));
 
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
-                + SCHOOL_DESC_AMY + DEGREE_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withSkills().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        // Set view state to match the actual model
-        expectedModel.setViewState(model.getCurrentViewState());
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(
+                temporaryFolder.resolve("ExceptionUserPrefs.json"));
+        return new StorageManager(addressBookStorage, applicationsManagerStorage, journalStorage,
+                snapshotCacheStorage, userPrefsStorage);
     }
 }
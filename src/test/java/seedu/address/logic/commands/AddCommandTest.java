@@ -11,7 +11,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,12 +25,17 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.Mutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.skill.SkillMatch;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -261,6 +268,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getPersonSearchPredicate(Map<PersonField, List<String>> keywordsByField) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Job> getJobKeywordPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Job> getFilteredJobList() {
             return null;
@@ -271,6 +293,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Mutation> takeMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Application> getFilteredApplicationList() {
             throw new AssertionError("This method should not be called.");
@@ -311,6 +338,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Application> getApplicationsByStatus(ApplicationStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Application> getApplicationsByJobAndStatus(Job job, ApplicationStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RoundCounts getFilteredRoundCounts(Job job) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RoundCounts getFilteredRoundCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getFilteredApplicantCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getFilteredApplicantCountsBySchool() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Application> getApplicationByPersonAndJob(Person person, Job job) {
             throw new AssertionError("This method should not be called.");
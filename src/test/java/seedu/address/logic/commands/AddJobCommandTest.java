@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -23,12 +24,17 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.Mutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.skill.SkillMatch;
 import seedu.address.testutil.JobBuilder;
 
 public class AddJobCommandTest {
@@ -248,6 +254,21 @@ public class AddJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<SkillMatch<Job>> getRecommendedJobs(Person person, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getPersonSearchPredicate(Map<PersonField, List<String>> keywordsByField) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Job> getJobKeywordPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Job> getFilteredJobList() {
             return null;
@@ -258,6 +279,11 @@ public class AddJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Mutation> takeMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Application> getFilteredApplicationList() {
             throw new AssertionError("This method should not be called.");
@@ -298,6 +324,36 @@ public class AddJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Application> getApplicationsByStatus(ApplicationStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Application> getApplicationsByJobAndStatus(Job job, ApplicationStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RoundCounts getFilteredRoundCounts(Job job) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RoundCounts getFilteredRoundCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getFilteredApplicantCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getFilteredApplicantCountsBySchool() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Application> getApplicationByPersonAndJob(Person person, Job job) {
             throw new AssertionError("This method should not be called.");
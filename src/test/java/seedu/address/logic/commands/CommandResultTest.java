@@ -37,6 +37,14 @@ public class CommandResultTest {
         assertFalse(commandResult.equals(CommandResult.withRefreshApplications("feedback")));
     }
 
+    @Test
+    public void withAdditionalFeedback_keepsOtherValues() {
+        assertEquals(CommandResult.withExit("feedback\nsaving failed"),
+                CommandResult.withExit("feedback").withAdditionalFeedback("saving failed"));
+        assertEquals(CommandResult.withPersonView("feedback\nsaving failed", 1, 2),
+                CommandResult.withPersonView("feedback", 1, 2).withAdditionalFeedback("saving failed"));
+    }
+
     @Test
     public void hashcode() {
         CommandResult commandResult = CommandResult.withFeedback("feedback");
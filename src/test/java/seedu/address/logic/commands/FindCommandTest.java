@@ -13,6 +13,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManage
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonFieldsContainKeywordsPredicate;
+import seedu.address.model.search.PersonField;
 
 /**
  * Contains integration tests (interaction with the Model) for
@@ -98,6 +102,20 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fieldKeywords_personsMatchingEveryFieldFound() throws CommandException {
+        PersonFieldsContainKeywordsPredicate fieldsPredicate = new PersonFieldsContainKeywordsPredicate(Map.of(
+                PersonField.SCHOOL, List.of("NTU"), PersonField.DEGREE, List.of("civil", "physics")));
+        FindCommand command = new FindCommand(fieldsPredicate);
+        CommandResult expectedCommandResult = CommandResult.withFeedback(
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(expectedCommandResult, result);
+        assertEquals(List.of(FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
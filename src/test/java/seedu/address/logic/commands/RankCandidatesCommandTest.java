@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_ONE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_TWO;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.JobBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code RankCandidatesCommand}.
+ */
+public class RankCandidatesCommandTest {
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(), new UserPrefs());
+        model.addPerson(BOB);
+        model.addPerson(AMY);
+        expectedModel = new ModelManager(model.getAddressBook(), model.getApplicationsManager(), new UserPrefs());
+        model.setViewState(Model.ViewState.JOB_VIEW);
+        expectedModel.setViewState(Model.ViewState.JOB_VIEW);
+    }
+
+    @Test
+    public void execute_validIndex_shortlistsBestCandidatesFirst() {
+        // Data scientist requires python, which Amy and Bob both have, but Bob has an unrelated skill as well
+        Job job = model.getFilteredJobList().get(INDEX_TWO.getZeroBased());
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(INDEX_TWO,
+                RankCandidatesCommand.DEFAULT_SHORTLIST_SIZE);
+
+        String expectedMessage = String.format(RankCandidatesCommand.MESSAGE_CANDIDATES_RANKED, 2, job.getJobTitle())
+                + "\n" + String.format(RankCandidatesCommand.MESSAGE_CANDIDATE, 1, AMY.getName(), 1, 3)
+                + "\n" + String.format(RankCandidatesCommand.MESSAGE_CANDIDATE, 2, BOB.getName(), 1, 3);
+        expectedModel.updateFilteredPersonList(person -> person.equals(AMY) || person.equals(BOB));
+        expectedModel.toggleJobView();
+
+        assertCommandSuccess(rankCommand, model, CommandResult.withToggleView(expectedMessage), expectedModel);
+    }
+
+    @Test
+    public void execute_shortlistSizeSmallerThanCandidates_keepsBestCandidates() {
+        Job job = model.getFilteredJobList().get(INDEX_TWO.getZeroBased());
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(INDEX_TWO, 1);
+
+        String expectedMessage = String.format(RankCandidatesCommand.MESSAGE_CANDIDATES_RANKED, 1, job.getJobTitle())
+                + "\n" + String.format(RankCandidatesCommand.MESSAGE_CANDIDATE, 1, AMY.getName(), 1, 3);
+        expectedModel.updateFilteredPersonList(AMY::equals);
+        expectedModel.toggleJobView();
+
+        assertCommandSuccess(rankCommand, model, CommandResult.withToggleView(expectedMessage), expectedModel);
+    }
+
+    @Test
+    public void execute_noCandidates_throwsCommandException() {
+        // No person knows any of the skills required by the product manager role
+        Job job = model.getFilteredJobList().get(2);
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(Index.fromZeroBased(2), 10);
+
+        assertCommandFailure(rankCommand, model,
+                String.format(RankCandidatesCommand.MESSAGE_NO_CANDIDATES, job.getJobTitle()));
+    }
+
+    @Test
+    public void execute_jobWithoutSkills_throwsCommandException() {
+        Job jobWithoutSkills = new JobBuilder().withJobTitle("Intern").withSkills().build();
+        model.addJob(jobWithoutSkills);
+        Index lastIndex = Index.fromOneBased(model.getFilteredJobList().size());
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(lastIndex, 10);
+
+        assertCommandFailure(rankCommand, model,
+                String.format(RankCandidatesCommand.MESSAGE_JOB_WITHOUT_SKILLS, jobWithoutSkills.getJobTitle()));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredJobList().size() + 1);
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(outOfBoundIndex, 10);
+
+        assertCommandFailure(rankCommand, model, Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_notInJobView_throwsCommandException() {
+        model.setViewState(Model.ViewState.PERSON_VIEW);
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(INDEX_ONE, 10);
+
+        assertCommandFailure(rankCommand, model, Messages.MESSAGE_NOT_IN_JOB_VIEW);
+    }
+
+    @Test
+    public void execute_filteredPersonList_ranksDisplayedPersonsOnly() throws Exception {
+        model.updateFilteredPersonList(BOB::equals);
+
+        new RankCandidatesCommand(INDEX_TWO, 10).execute(model);
+
+        List<Person> shortlist = model.getFilteredPersonList();
+        assertEquals(List.of(BOB), shortlist);
+    }
+
+    @Test
+    public void equals() {
+        RankCandidatesCommand rankFirstCommand = new RankCandidatesCommand(INDEX_ONE, 10);
+        RankCandidatesCommand rankSecondCommand = new RankCandidatesCommand(INDEX_TWO, 10);
+
+        // same object -> returns true
+        assertTrue(rankFirstCommand.equals(rankFirstCommand));
+
+        // same values -> returns true
+        assertTrue(rankFirstCommand.equals(new RankCandidatesCommand(INDEX_ONE, 10)));
+
+        // different types -> returns false
+        assertFalse(rankFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(rankFirstCommand.equals(null));
+
+        // different job -> returns false
+        assertFalse(rankFirstCommand.equals(rankSecondCommand));
+
+        // different shortlist size -> returns false
+        assertFalse(rankFirstCommand.equals(new RankCandidatesCommand(INDEX_ONE, 5)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RankCandidatesCommand rankCommand = new RankCandidatesCommand(INDEX_ONE, 10);
+        String expected = RankCandidatesCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_ONE
+                + ", shortlistSize=10}";
+        assertEquals(expected, rankCommand.toString());
+    }
+}
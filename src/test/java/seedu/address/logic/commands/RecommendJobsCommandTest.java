@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_ONE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_TWO;
+import static seedu.address.testutil.TypicalPersons.DATA_SCIENTIST_MICROSOFT;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code RecommendJobsCommand}.
+ */
+public class RecommendJobsCommandTest {
+    private static final Person DATA_ENGINEER = new PersonBuilder().withName("Dana Engineer")
+            .withSkills("Java", "Python", "ML", "TensorFlow").build();
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(), new UserPrefs());
+        model.addPerson(DATA_ENGINEER);
+        expectedModel = new ModelManager(model.getAddressBook(), model.getApplicationsManager(), new UserPrefs());
+        model.setViewState(Model.ViewState.PERSON_VIEW);
+        expectedModel.setViewState(Model.ViewState.PERSON_VIEW);
+    }
+
+    @Test
+    public void execute_validIndex_listsBestMatchingJobsFirst() {
+        Index lastIndex = Index.fromOneBased(model.getFilteredPersonList().size());
+        RecommendJobsCommand recommendCommand = new RecommendJobsCommand(lastIndex,
+                RecommendJobsCommand.DEFAULT_RECOMMENDATION_COUNT);
+
+        String expectedMessage = String.format(RecommendJobsCommand.MESSAGE_JOBS_RECOMMENDED, 2,
+                DATA_ENGINEER.getName())
+                + "\n" + String.format(RecommendJobsCommand.MESSAGE_JOB, 1, DATA_SCIENTIST_MICROSOFT.getJobTitle(),
+                        3, 3, 0)
+                + "\n" + String.format(RecommendJobsCommand.MESSAGE_JOB, 2, SOFTWARE_ENGINEER_GOOGLE.getJobTitle(),
+                        1, 3, 2);
+        expectedModel.updateFilteredJobList(job -> job.equals(DATA_SCIENTIST_MICROSOFT)
+                || job.equals(SOFTWARE_ENGINEER_GOOGLE));
+        expectedModel.toggleJobView();
+
+        assertCommandSuccess(recommendCommand, model, CommandResult.withToggleView(expectedMessage), expectedModel);
+    }
+
+    @Test
+    public void execute_personWithoutMatchingJobs_throwsCommandException() {
+        Person person = model.getFilteredPersonList().get(INDEX_ONE.getZeroBased());
+        RecommendJobsCommand recommendCommand = new RecommendJobsCommand(INDEX_ONE, 10);
+
+        assertCommandFailure(recommendCommand, model,
+                String.format(RecommendJobsCommand.MESSAGE_NO_JOBS, person.getName()));
+    }
+
+    @Test
+    public void execute_personWithoutSkills_throwsCommandException() {
+        Person personWithoutSkills = new PersonBuilder().withName("No Skills").withSkills().build();
+        model.addPerson(personWithoutSkills);
+        Index lastIndex = Index.fromOneBased(model.getFilteredPersonList().size());
+        RecommendJobsCommand recommendCommand = new RecommendJobsCommand(lastIndex, 10);
+
+        assertCommandFailure(recommendCommand, model,
+                String.format(RecommendJobsCommand.MESSAGE_PERSON_WITHOUT_SKILLS, personWithoutSkills.getName()));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        RecommendJobsCommand recommendCommand = new RecommendJobsCommand(outOfBoundIndex, 10);
+
+        assertCommandFailure(recommendCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_inJobView_throwsCommandException() {
+        model.setViewState(Model.ViewState.JOB_VIEW);
+        RecommendJobsCommand recommendCommand = new RecommendJobsCommand(INDEX_ONE, 10);
+
+        assertCommandFailure(recommendCommand, model, Messages.MESSAGE_NOT_IN_PERSON_VIEW);
+    }
+
+    @Test
+    public void equals() {
+        RecommendJobsCommand recommendFirstCommand = new RecommendJobsCommand(INDEX_ONE, 10);
+        RecommendJobsCommand recommendSecondCommand = new RecommendJobsCommand(INDEX_TWO, 10);
+
+        // same object -> returns true
+        assertTrue(recommendFirstCommand.equals(recommendFirstCommand));
+
+        // same values -> returns true
+        assertTrue(recommendFirstCommand.equals(new RecommendJobsCommand(INDEX_ONE, 10)));
+
+        // different types -> returns false
+        assertFalse(recommendFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(recommendFirstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(recommendFirstCommand.equals(recommendSecondCommand));
+
+        // different count -> returns false
+        assertFalse(recommendFirstCommand.equals(new RecommendJobsCommand(INDEX_ONE, 5)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RecommendJobsCommand recommendCommand = new RecommendJobsCommand(INDEX_ONE, 10);
+        String expected = RecommendJobsCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_ONE
+                + ", count=10}";
+        assertEquals(expected, recommendCommand.toString());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalApplications.getTypicalApplicationsManager;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.stats.StatsDimension;
+import seedu.address.model.stats.StatsMetric;
+import seedu.address.model.stats.StatsQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(), new UserPrefs());
+    private Model expectedModel = new ModelManager(model.getAddressBook(), model.getApplicationsManager(),
+            new UserPrefs());
+
+    @Test
+    public void execute_groupByRound_showsGroupsInOrder() {
+        StatsCommand command = new StatsCommand(new StatsQuery(List.of(StatsDimension.ROUND),
+                List.of(StatsMetric.COUNT), Set.of()));
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 4)
+                + "\nround | count\n0 | 1\n1 | 1\n2 | 2\n3 | 1";
+        assertCommandSuccess(command, model, CommandResult.withFeedback(expectedMessage), expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingApplications_showsNoGroups() {
+        StatsCommand command = new StatsCommand(new StatsQuery(List.of(StatsDimension.ROUND),
+                List.of(StatsMetric.COUNT), Set.of(new Skill("cobol"))));
+
+        assertCommandSuccess(command, model, CommandResult.withFeedback(StatsCommand.MESSAGE_NO_GROUPS),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.ROUND), List.of(StatsMetric.COUNT), Set.of());
+        StatsCommand command = new StatsCommand(query);
+
+        // same values -> returns true
+        assertTrue(command.equals(new StatsCommand(query)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different query -> returns false
+        assertFalse(command.equals(new StatsCommand(new StatsQuery(List.of(StatsDimension.JOB),
+                List.of(StatsMetric.COUNT), Set.of()))));
+    }
+}
@@ -5,11 +5,16 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonFieldsContainKeywordsPredicate;
+import seedu.address.model.search.PersonField;
 
 public class FindCommandParserTest {
 
@@ -31,4 +36,37 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldPrefixes_returnsFieldScopedFindCommand() {
+        Map<PersonField, List<String>> keywordsByField = new EnumMap<>(PersonField.class);
+        keywordsByField.put(PersonField.NAME, List.of("Alice", "Bob"));
+        keywordsByField.put(PersonField.SCHOOL, List.of("NUS"));
+        keywordsByField.put(PersonField.SKILL, List.of("machine learning", "java"));
+        FindCommand expectedFindCommand = new FindCommand(new PersonFieldsContainKeywordsPredicate(keywordsByField));
+
+        // text fields are split into words, exact fields are kept whole
+        assertParseSuccess(parser, " n/Alice Bob s/NUS k/machine learning k/java", expectedFindCommand);
+
+        // order of prefixes does not matter
+        assertParseSuccess(parser, " k/machine learning s/NUS n/Alice  Bob k/java", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_nameSoundPrefix_returnsNameSoundFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonFieldsContainKeywordsPredicate(
+                Map.of(PersonField.NAME_SOUND, List.of("Jon", "Smyth"))));
+        assertParseSuccess(parser, " h/Jon Smyth", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fieldPrefixesWithInvalidValues_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // keywords outside of any field
+        assertParseFailure(parser, "Alice n/Bob", expectedMessage);
+
+        // empty field
+        assertParseFailure(parser, " n/ s/NUS", expectedMessage);
+    }
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -172,6 +173,11 @@ public class ParserUtilTest {
         assertEquals(expectedSkill, ParserUtil.parseSkill(skillWithWhitespace));
     }
 
+    @Test
+    public void parseSkill_sameValue_returnsSameInstance() throws Exception {
+        assertSame(ParserUtil.parseSkill(VALID_SKILL_1), ParserUtil.parseSkill(WHITESPACE + VALID_SKILL_1));
+    }
+
     @Test
     public void parseSkills_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseSkills(null));
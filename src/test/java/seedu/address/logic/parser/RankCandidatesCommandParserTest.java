@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_INDEX_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.RankCandidatesCommandParser.MESSAGE_INVALID_SHORTLIST_SIZE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_ONE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RankCandidatesCommand;
+
+public class RankCandidatesCommandParserTest {
+
+    private RankCandidatesCommandParser parser = new RankCandidatesCommandParser();
+
+    @Test
+    public void parse_indexOnly_returnsDefaultShortlistSize() {
+        assertParseSuccess(parser, " 1 ",
+                new RankCandidatesCommand(INDEX_ONE, RankCandidatesCommand.DEFAULT_SHORTLIST_SIZE));
+    }
+
+    @Test
+    public void parse_indexAndShortlistSize_returnsRankCandidatesCommand() {
+        assertParseSuccess(parser, "1   5", new RankCandidatesCommand(INDEX_ONE, 5));
+    }
+
+    @Test
+    public void parse_invalidShortlistSize_throwsParseException() {
+        assertParseFailure(parser, "1 0", String.format(MESSAGE_INVALID_COMMAND_INDEX_FORMAT,
+                MESSAGE_INVALID_SHORTLIST_SIZE, RankCandidatesCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_tooManyArgs_throwsParseException() {
+        assertParseFailure(parser, "1 5 5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCandidatesCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_INDEX_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.RecommendJobsCommandParser.MESSAGE_INVALID_COUNT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_ONE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RecommendJobsCommand;
+
+public class RecommendJobsCommandParserTest {
+
+    private RecommendJobsCommandParser parser = new RecommendJobsCommandParser();
+
+    @Test
+    public void parse_indexOnly_returnsDefaultCount() {
+        assertParseSuccess(parser, " 1 ",
+                new RecommendJobsCommand(INDEX_ONE, RecommendJobsCommand.DEFAULT_RECOMMENDATION_COUNT));
+    }
+
+    @Test
+    public void parse_indexAndCount_returnsRecommendJobsCommand() {
+        assertParseSuccess(parser, "1   5", new RecommendJobsCommand(INDEX_ONE, 5));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, "1 0", String.format(MESSAGE_INVALID_COMMAND_INDEX_FORMAT,
+                MESSAGE_INVALID_COUNT, RecommendJobsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_tooManyArgs_throwsParseException() {
+        assertParseFailure(parser, "1 5 5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecommendJobsCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.stats.StatsDimension;
+import seedu.address.model.stats.StatsMetric;
+import seedu.address.model.stats.StatsQuery;
+
+public class StatsCommandParserTest {
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_dimensionsOnly_countsByDefault() {
+        assertParseSuccess(parser, " g/school g/Round", new StatsCommand(new StatsQuery(
+                List.of(StatsDimension.SCHOOL, StatsDimension.ROUND), List.of(StatsMetric.COUNT), Set.of())));
+    }
+
+    @Test
+    public void parse_allFields_returnsStatsCommand() {
+        assertParseSuccess(parser, " g/degree g/round m/persons m/avground k/Java g/degree",
+                new StatsCommand(new StatsQuery(List.of(StatsDimension.DEGREE, StatsDimension.ROUND),
+                        List.of(StatsMetric.PERSONS, StatsMetric.AVERAGE_ROUND), Set.of(new Skill("java")))));
+    }
+
+    @Test
+    public void parse_missingDimension_throwsParseException() {
+        assertParseFailure(parser, " m/count",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " school",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " g/name", StatsDimension.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " g/school m/sum", StatsMetric.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " g/school k/c#", Skill.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -7,6 +7,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SKILL_JAVA;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DATA_SCIENTIST_MICROSOFT;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalJobs;
 
@@ -14,14 +17,23 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFieldsContainKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.search.PersonField;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillDictionary;
+import seedu.address.model.skill.SkillMatch;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -81,6 +93,227 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_onlyModificationsChangeCount() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > countAfterAdd);
+    }
+
+    @Test
+    public void getPersonSearchPredicate_skills_matchesPersonsWithAnySkill() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON), findBySkills("FRIENDS"));
+        assertEquals(List.of(BENSON), findBySkills("owesmoney"));
+        assertEquals(List.of(ALICE, BENSON), findBySkills("owesmoney", "friends"));
+        assertEquals(List.of(), findBySkills(VALID_SKILL_JAVA, "not a skill"));
+        assertEquals(List.of(), findBySkills("searchedSkillNoOneHas"));
+        assertEquals(SkillDictionary.UNKNOWN_ID, SkillDictionary.find(new Skill("searchedSkillNoOneHas")));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_skillsAfterEditAndRemove_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        Predicate<Person> predicate = addressBook.getPersonSearchPredicate(
+                Map.of(PersonField.SKILL, List.of(VALID_SKILL_JAVA)));
+        Person editedAlice = new PersonBuilder(ALICE).withSkills(VALID_SKILL_JAVA).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(), findBySkills("friends"));
+        assertTrue(predicate.test(editedAlice));
+
+        addressBook.removePerson(editedAlice);
+        assertFalse(predicate.test(editedAlice));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_matchesSameAsSearchPredicates() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<Map<PersonField, List<String>>> searches = List.of(
+                Map.of(PersonField.ANY, List.of("alice", "meier", "friends", "nus", "94351253")),
+                Map.of(PersonField.ANY, List.of("alise~", "ben*", "*urz*", "wall")),
+                Map.of(PersonField.NAME, List.of("kurz~1", "elle", "mei*")),
+                Map.of(PersonField.NAME_SOUND, List.of("mayer", "kunz")),
+                Map.of(PersonField.EMAIL, List.of("ALICE@example.com", "heinz")),
+                Map.of(PersonField.SCHOOL, List.of("nus"), PersonField.DEGREE, List.of("computer")),
+                Map.of(PersonField.SKILL, List.of("friends", "owesmoney~", "java")),
+                Map.of(PersonField.NAME, List.of("*a*"), PersonField.SKILL, List.of("FRIENDS")));
+        for (Map<PersonField, List<String>> search : searches) {
+            Predicate<Person> predicate = new PersonFieldsContainKeywordsPredicate(search);
+            assertEquals(addressBook.getPersonList().stream().filter(predicate).toList(),
+                    addressBook.getPersonList().stream().filter(addressBook.getPersonSearchPredicate(search)).toList(),
+                    search.toString());
+        }
+        for (List<String> keywords : List.of(List.of("alice", "wall", "ali*"), List.of("benso~", "*eie*"))) {
+            Predicate<Person> predicate = new NameContainsKeywordsPredicate(keywords);
+            assertEquals(addressBook.getPersonList().stream().filter(predicate).toList(),
+                    addressBook.getPersonList().stream().filter(addressBook.getPersonKeywordPredicate(keywords))
+                            .toList(), keywords.toString());
+        }
+    }
+
+    @Test
+    public void getJobKeywordPredicate_matchesSameAsJobContainsKeywordsPredicate() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<List<String>> searches = List.of(
+                List.of("engineer", "python", "5"),
+                List.of("enginer~", "dev*", "*stack*"),
+                List.of("DATA", "scientist~2", "*"));
+        for (List<String> keywords : searches) {
+            Predicate<Job> predicate = new JobContainsKeywordsPredicate(keywords);
+            assertEquals(addressBook.getJobList().stream().filter(predicate).toList(),
+                    addressBook.getJobList().stream().filter(addressBook.getJobKeywordPredicate(keywords)).toList(),
+                    keywords.toString());
+        }
+    }
+
+    @Test
+    public void getRecommendedJobs_personWithSkills_returnsBestCoveredJobsFirst() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person person = new PersonBuilder().withSkills(VALID_SKILL_JAVA, "Python", "ML", "TensorFlow").build();
+
+        List<SkillMatch<Job>> recommendations = addressBook.getRecommendedJobs(person, 10);
+        assertEquals(List.of(DATA_SCIENTIST_MICROSOFT, SOFTWARE_ENGINEER_GOOGLE),
+                recommendations.stream().map(SkillMatch::item).toList());
+        assertEquals(0, recommendations.get(0).missingSkills());
+        assertEquals(2, recommendations.get(1).missingSkills());
+
+        assertEquals(List.of(DATA_SCIENTIST_MICROSOFT),
+                addressBook.getRecommendedJobs(person, 1).stream().map(SkillMatch::item).toList());
+        assertEquals(List.of(), addressBook.getRecommendedJobs(ALICE, 10));
+    }
+
+    @Test
+    public void getPersonKeywordPredicate_afterEdit_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        Predicate<Person> predicate = addressBook.getPersonKeywordPredicate(List.of("ALICE", "Street"));
+        assertTrue(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(editedAlice));
+        assertTrue(addressBook.getPersonKeywordPredicate(List.of("alicia")).test(editedAlice));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_fieldKeywords_matchesOnlyThoseFields() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        // "example" only appears in emails, which are matched by whole value
+        Predicate<Person> predicate = addressBook.getPersonSearchPredicate(
+                Map.of(PersonField.SCHOOL, List.of("example")));
+        assertFalse(predicate.test(ALICE));
+
+        predicate = addressBook.getPersonSearchPredicate(Map.of(
+                PersonField.NAME, List.of("alice", "benson"),
+                PersonField.SCHOOL, List.of("ntu")));
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+
+        predicate = addressBook.getPersonSearchPredicate(Map.of(
+                PersonField.EMAIL, List.of("ALICE@example.com"),
+                PersonField.SKILL, List.of("friends")));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void getJobKeywordPredicate_matchesTitleRoundsAndSkills() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getJobKeywordPredicate(List.of("software")).test(SOFTWARE_ENGINEER_GOOGLE));
+        assertTrue(addressBook.getJobKeywordPredicate(List.of("SpringBoot")).test(SOFTWARE_ENGINEER_GOOGLE));
+        assertFalse(addressBook.getJobKeywordPredicate(List.of("python")).test(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_fuzzyKeyword_matchesSimilarNames() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        Predicate<Person> predicate = addressBook.getPersonKeywordPredicate(List.of("alise~"));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        // distance is given explicitly
+        assertFalse(addressBook.getPersonKeywordPredicate(List.of("bensn~0")).test(BENSON));
+        assertTrue(addressBook.getPersonSearchPredicate(Map.of(PersonField.NAME, List.of("bensn~1")))
+                .test(BENSON));
+
+        // fuzzy keywords are not used for other fields
+        assertFalse(addressBook.getPersonSearchPredicate(Map.of(PersonField.SCHOOL, List.of("alise~")))
+                .test(ALICE));
+    }
+
+    @Test
+    public void getJobKeywordPredicate_fuzzyKeyword_matchesSimilarTitles() {
+        addressBook.resetData(getTypicalAddressBook());
+        Predicate<Job> predicate = addressBook.getJobKeywordPredicate(List.of("sofware~", "scientst"));
+        assertTrue(predicate.test(SOFTWARE_ENGINEER_GOOGLE));
+        assertFalse(predicate.test(DATA_SCIENTIST_MICROSOFT));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_partialKeyword_matchesPartOfNames() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        Predicate<Person> predicate = addressBook.getPersonKeywordPredicate(List.of("paul*"));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        assertFalse(addressBook.getPersonKeywordPredicate(List.of("eier*")).test(BENSON));
+        assertTrue(addressBook.getPersonSearchPredicate(Map.of(PersonField.NAME, List.of("*eier*")))
+                .test(BENSON));
+
+        // partial keywords are not used for other fields
+        assertFalse(addressBook.getPersonSearchPredicate(Map.of(PersonField.SCHOOL, List.of("ali*")))
+                .test(ALICE));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_partialKeywordAfterEdit_matchesNewName() {
+        addressBook.addPerson(ALICE);
+        Predicate<Person> predicate = addressBook.getPersonKeywordPredicate(List.of("*topher*"));
+        assertFalse(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Christopher").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+    }
+
+    @Test
+    public void getJobKeywordPredicate_partialKeyword_matchesPartOfTitles() {
+        addressBook.resetData(getTypicalAddressBook());
+        Predicate<Job> predicate = addressBook.getJobKeywordPredicate(List.of("soft*", "*entis*"));
+        assertTrue(predicate.test(SOFTWARE_ENGINEER_GOOGLE));
+        assertTrue(predicate.test(DATA_SCIENTIST_MICROSOFT));
+        assertFalse(addressBook.getJobKeywordPredicate(List.of("ware*")).test(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void getPersonSearchPredicate_nameSound_matchesNamesSpeltByEar() {
+        Person johnSmith = new PersonBuilder().withName("John Smith").build();
+        addressBook.addPerson(johnSmith);
+        addressBook.addPerson(BENSON);
+
+        Predicate<Person> predicate = addressBook.getPersonSearchPredicate(
+                Map.of(PersonField.NAME_SOUND, List.of("Jon", "Smyth")));
+        assertTrue(predicate.test(johnSmith));
+        assertFalse(predicate.test(BENSON));
+
+        // the sound of a name is not matched by other fields
+        assertFalse(addressBook.getPersonKeywordPredicate(List.of("Jon")).test(johnSmith));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -92,6 +325,11 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    private List<Person> findBySkills(String... skills) {
+        Predicate<Person> predicate = addressBook.getPersonSearchPredicate(Map.of(PersonField.SKILL, List.of(skills)));
+        return addressBook.getPersonList().stream().filter(predicate).toList();
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface
      * constraints.
@@ -114,6 +352,10 @@ public class AddressBookTest {
         public ObservableList<Job> getJobList() {
             return jobs;
         }
-    }
 
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+    }
 }
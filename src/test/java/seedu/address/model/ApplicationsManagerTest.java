@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHOOL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalApplications.ALICE_DS_MICROSOFT;
 import static seedu.address.testutil.TypicalApplications.ALICE_SWE_GOOGLE;
@@ -11,13 +12,18 @@ import static seedu.address.testutil.TypicalApplications.getTypicalApplicationsM
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.application.exceptions.ApplicationNotFoundException;
 import seedu.address.model.application.exceptions.InvalidApplicationStatusException;
 import seedu.address.model.job.Job;
@@ -172,6 +178,58 @@ public class ApplicationsManagerTest {
         assertFalse(applicationsManager.hasApplication(ALICE_DS_MICROSOFT));
     }
 
+    @Test
+    public void updatePerson_renamedPerson_applicationsFoundByNewPerson() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+
+        Person newPerson = new PersonBuilder(ALICE).withName("Alice Updated").build();
+        applicationsManager.updatePerson(ALICE, newPerson);
+
+        Application expectedApplication = new Application(newPerson, ALICE_SWE_GOOGLE.getJob(),
+                ALICE_SWE_GOOGLE.getApplicationStatus());
+        assertTrue(applicationsManager.hasApplication(expectedApplication));
+        assertEquals(2, applicationsManager.getApplicationsByPerson(newPerson).size());
+        assertTrue(applicationsManager.getApplicationsByPerson(ALICE).isEmpty());
+
+        applicationsManager.deleteApplication(expectedApplication);
+        assertEquals(List.of(ALICE_DS_MICROSOFT.getJob()), applicationsManager.getApplicationsByPerson(newPerson)
+                .stream().map(Application::getJob).toList());
+    }
+
+    @Test
+    public void updatePerson_renamedPerson_earlierApplicationsUnchanged() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+        Set<Application> earlierApplications = new HashSet<>(applicationsManager.getApplicationList());
+
+        Person newPerson = new PersonBuilder(ALICE).withName("Alice Updated").build();
+        applicationsManager.updatePerson(ALICE, newPerson);
+
+        // applications are values, so the ones taken earlier still hash to where they were stored
+        assertTrue(earlierApplications.contains(ALICE_SWE_GOOGLE));
+        assertEquals(ALICE, ALICE_SWE_GOOGLE.getApplicant());
+        // the edited applications keep their positions
+        assertEquals(List.of(newPerson, BOB_SWE_GOOGLE.getApplicant(), newPerson),
+                applicationsManager.getApplicationList().stream().map(Application::getApplicant).toList());
+    }
+
+    @Test
+    public void getModificationCount_updatePerson_changedOnlyByIdentityChange() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        long initialCount = applicationsManager.getModificationCount();
+
+        // applications are unchanged in storage, as they only refer to the name of their applicant
+        Person movedAlice = new PersonBuilder(ALICE).withSchool(VALID_SCHOOL_BOB).build();
+        applicationsManager.updatePerson(ALICE, movedAlice);
+        assertEquals(initialCount, applicationsManager.getModificationCount());
+
+        Person renamedAlice = new PersonBuilder(movedAlice).withName("Alice Updated").build();
+        applicationsManager.updatePerson(movedAlice, renamedAlice);
+        assertTrue(applicationsManager.getModificationCount() > initialCount);
+    }
+
     @Test
     public void updateJob_nullParameters_throwsNullPointerException() {
         assertThrows(NullPointerException.class,
@@ -397,6 +455,129 @@ public class ApplicationsManagerTest {
         assertTrue(applications.contains(BOB_SWE_GOOGLE));
     }
 
+    @Test
+    public void getApplicationsByStatus_returnsApplicationsWithStatus() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+
+        assertEquals(List.of(BOB_SWE_GOOGLE), applicationsManager.getApplicationsByStatus(new ApplicationStatus(2)));
+        assertEquals(List.of(), applicationsManager.getApplicationsByStatus(new ApplicationStatus(3)));
+
+        Application advancedApplication = applicationsManager.advanceApplication(ALICE_SWE_GOOGLE, 1);
+        assertEquals(List.of(BOB_SWE_GOOGLE, advancedApplication),
+                applicationsManager.getApplicationsByStatus(new ApplicationStatus(2)));
+        assertEquals(List.of(), applicationsManager.getApplicationsByStatus(new ApplicationStatus(1)));
+    }
+
+    @Test
+    public void getApplicationsByJobAndStatus_returnsApplicationsForJobWithStatus() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+
+        assertEquals(List.of(ALICE_SWE_GOOGLE), applicationsManager.getApplicationsByJobAndStatus(
+                TypicalPersons.SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(1)));
+        assertEquals(List.of(), applicationsManager.getApplicationsByJobAndStatus(
+                TypicalPersons.DATA_SCIENTIST_MICROSOFT, new ApplicationStatus(1)));
+
+        applicationsManager.deleteApplication(ALICE_SWE_GOOGLE);
+        assertEquals(List.of(), applicationsManager.getApplicationsByJobAndStatus(
+                TypicalPersons.SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(1)));
+
+        // job that is not in the applications manager
+        assertEquals(List.of(), applicationsManager.getApplicationsByJobAndStatus(
+                new JobBuilder().withJobTitle("Chef").build(), new ApplicationStatus(0)));
+    }
+
+    @Test
+    public void getRoundCounts_afterChanges_matchesApplications() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+
+        assertEquals(RoundCounts.of(List.of(ALICE_SWE_GOOGLE, BOB_SWE_GOOGLE)),
+                applicationsManager.getRoundCounts(TypicalPersons.SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(RoundCounts.of(applicationsManager.getApplicationList()), applicationsManager.getRoundCounts());
+
+        Application advancedApplication = applicationsManager.advanceApplication(ALICE_SWE_GOOGLE, 1);
+        applicationsManager.deleteApplication(ALICE_DS_MICROSOFT);
+        assertEquals(RoundCounts.of(List.of(advancedApplication, BOB_SWE_GOOGLE)),
+                applicationsManager.getRoundCounts(TypicalPersons.SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(0, applicationsManager.getRoundCounts(TypicalPersons.DATA_SCIENTIST_MICROSOFT).getTotal());
+        assertEquals(RoundCounts.of(applicationsManager.getApplicationList()), applicationsManager.getRoundCounts());
+
+        applicationsManager.resetData(new ApplicationsManager());
+        assertEquals(0, applicationsManager.getRoundCounts().getTotal());
+
+        // job that is not in the applications manager
+        assertEquals(0, applicationsManager.getRoundCounts(new JobBuilder().withJobTitle("Chef").build()).getTotal());
+    }
+
+    @Test
+    public void getApplicantCountsBySchool_afterChanges_countsEachApplicantOnce() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+
+        // schools are lower-cased by PersonBuilder
+        assertEquals(2, applicationsManager.getApplicantCount());
+        assertEquals(Map.of("nus", 1, "ntu", 1), applicationsManager.getApplicantCountsBySchool());
+
+        // Alice still has an application, so she is still counted
+        applicationsManager.deleteApplication(ALICE_SWE_GOOGLE);
+        assertEquals(Map.of("nus", 1, "ntu", 1), applicationsManager.getApplicantCountsBySchool());
+
+        // Alice moves to Bob's school
+        applicationsManager.updatePerson(ALICE, new PersonBuilder(ALICE).withSchool(VALID_SCHOOL_BOB).build());
+        assertEquals(List.of(Map.entry("ntu", 2)),
+                List.copyOf(applicationsManager.getApplicantCountsBySchool().entrySet()));
+
+        applicationsManager.deleteApplication(BOB_SWE_GOOGLE);
+        assertEquals(1, applicationsManager.getApplicantCount());
+        assertEquals(Map.of("ntu", 1), applicationsManager.getApplicantCountsBySchool());
+    }
+
+    @Test
+    public void getApplicantCountsBySchool_sortedByCount() {
+        Person charlie = new PersonBuilder().withName("Charlie").withSchool(VALID_SCHOOL_BOB).build();
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+        applicationsManager.addApplication(new ApplicationBuilder().withApplicant(charlie)
+                .withJob(TypicalPersons.SOFTWARE_ENGINEER_GOOGLE).build());
+
+        assertEquals(List.of("ntu", "nus"), List.copyOf(applicationsManager.getApplicantCountsBySchool()
+                .keySet()));
+    }
+
+    @Test
+    public void getApplicationsByJob_afterSetAndDelete_reflectsChanges() {
+        applicationsManager.addApplication(ALICE_SWE_GOOGLE);
+        applicationsManager.addApplication(BOB_SWE_GOOGLE);
+
+        Application editedApplication = new ApplicationBuilder(ALICE_SWE_GOOGLE).withApplicationStatus(2).build();
+        applicationsManager.setApplication(ALICE_SWE_GOOGLE, editedApplication);
+        applicationsManager.deleteApplication(BOB_SWE_GOOGLE);
+
+        assertEquals(List.of(editedApplication),
+                applicationsManager.getApplicationsByJob(TypicalPersons.SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(List.of(editedApplication), applicationsManager.getApplicationsByPerson(ALICE));
+        assertEquals(Optional.of(editedApplication),
+                applicationsManager.getApplicationByPersonAndJob(ALICE, TypicalPersons.SOFTWARE_ENGINEER_GOOGLE));
+        assertTrue(applicationsManager.getApplicationsByPerson(TypicalPersons.BOB).isEmpty());
+    }
+
+    @Test
+    public void getApplicationsByJob_afterResetData_reflectsNewData() {
+        applicationsManager.addApplication(ALICE_DS_MICROSOFT);
+        applicationsManager.resetData(getTypicalApplicationsManager());
+
+        assertEquals(List.of(ALICE_DS_MICROSOFT),
+                applicationsManager.getApplicationsByJob(TypicalPersons.DATA_SCIENTIST_MICROSOFT));
+        assertEquals(List.of(ALICE_SWE_GOOGLE, BOB_SWE_GOOGLE),
+                applicationsManager.getApplicationsByJob(TypicalPersons.SOFTWARE_ENGINEER_GOOGLE));
+    }
+
     @Test
     public void getApplicationByPersonAndJob_nullParameters_throwsNullPointerException() {
         assertThrows(NullPointerException.class,
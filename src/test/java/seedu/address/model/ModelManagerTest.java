@@ -7,15 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DATA_SCIENTIST_MICROSOFT;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.RoundCounts;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 
@@ -49,6 +57,17 @@ public class ModelManagerTest {
         assertEquals(oldUserPrefs, modelManager.getUserPrefs());
     }
 
+    @Test
+    public void takeMutations_mutationsMade_returnsMutationsInOrderOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addJob(SOFTWARE_ENGINEER_GOOGLE);
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(List.of(new Mutation.AddPerson(ALICE), new Mutation.AddJob(SOFTWARE_ENGINEER_GOOGLE),
+                new Mutation.DeletePerson(ALICE)), modelManager.takeMutations());
+        assertEquals(List.of(), modelManager.takeMutations());
+    }
+
     @Test
     public void setGuiSettings_nullGuiSettings_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setGuiSettings(null));
@@ -94,6 +113,44 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredApplicationsByJob_applicationFilter_returnsMatchingApplications() {
+        modelManager = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(), new UserPrefs());
+        List<Application> googleApplications = modelManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE);
+        assertEquals(googleApplications, modelManager.getFilteredApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+
+        modelManager.updateFilteredApplicationList(application ->
+                application.getApplicationStatus().applicationStatus >= 3);
+        assertEquals(googleApplications.stream()
+                        .filter(application -> application.getApplicationStatus().applicationStatus >= 3)
+                        .toList(),
+                modelManager.getFilteredApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(List.of(), modelManager.getFilteredApplicationsByPerson(ALICE));
+        assertEquals(1, modelManager.getFilteredApplicationsByJob(DATA_SCIENTIST_MICROSOFT).size());
+
+        modelManager.resetFilteredApplicationList();
+        assertEquals(2, modelManager.getFilteredApplicationsByPerson(ALICE).size());
+    }
+
+    @Test
+    public void getFilteredStatistics_afterAddApplication_countsNewApplication() {
+        modelManager = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(), new UserPrefs());
+        Application carlGoogleApplication = new Application(CARL, SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(1));
+        modelManager.addApplication(carlGoogleApplication);
+
+        List<Application> applications = modelManager.getApplicationsManager().getApplicationList();
+        assertEquals(RoundCounts.of(applications), modelManager.getFilteredRoundCounts());
+        assertEquals(RoundCounts.of(modelManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE)),
+                modelManager.getFilteredRoundCounts(SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(applications.stream().map(Application::getApplicant).distinct().count(),
+                modelManager.getFilteredApplicantCount());
+
+        // statistics only count the applications that are not filtered out
+        modelManager.updateFilteredApplicationList(application -> !application.equals(carlGoogleApplication));
+        assertEquals(RoundCounts.of(modelManager.getFilteredApplicationList()), modelManager.getFilteredRoundCounts());
+        assertEquals(applications.size() - 1, modelManager.getFilteredRoundCounts().getTotal());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class StackableFilteredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList(
+            "alice", "amy", "bob", "benson", "carl", "anna");
+    private final StackableFilteredList<String> list = new StackableFilteredList<>(source);
+
+    @Test
+    public void addPredicate_combinesWithPastPredicates() {
+        list.addPredicate(name -> name.startsWith("a"));
+        assertEquals(List.of("alice", "amy", "anna"), list.getFilteredList());
+
+        list.addPredicate(name -> name.length() > 3);
+        assertEquals(List.of("alice", "anna"), list.getFilteredList());
+    }
+
+    @Test
+    public void addPredicate_onlyTestsPastMatches() {
+        list.addPredicate(name -> name.startsWith("a"));
+        assertEquals(3, list.getFilteredList().size());
+
+        Set<String> tested = new HashSet<>();
+        list.addPredicate(name -> tested.add(name) || true);
+        assertEquals(List.of("alice", "amy", "anna"), list.getFilteredList());
+        assertEquals(Set.of("alice", "amy", "anna"), tested);
+    }
+
+    @Test
+    public void addPredicate_elementAddedLater_testedAgainstAllPredicates() {
+        list.addPredicate(name -> name.startsWith("a"));
+        list.addPredicate(name -> name.length() > 3);
+        assertEquals(List.of("alice", "anna"), list.getFilteredList());
+
+        source.addAll(List.of("abel", "axe", "bill"));
+        assertEquals(List.of("alice", "anna", "abel"), list.getFilteredList());
+
+        // an element replaced by one that no longer matches
+        source.set(source.indexOf("alice"), "al");
+        list.addPredicate(name -> true);
+        assertEquals(List.of("anna", "abel"), list.getFilteredList());
+    }
+
+    @Test
+    public void contains_reflectsFilteredList() {
+        source.forEach(name -> assertTrue(list.contains(name)));
+
+        list.addPredicate(name -> name.startsWith("a"));
+        list.addPredicate(name -> name.length() > 3);
+        source.forEach(name -> assertEquals(list.getFilteredList().contains(name), list.contains(name)));
+
+        source.add("abel");
+        source.add("axe");
+        assertTrue(list.contains("abel"));
+        assertFalse(list.contains("axe"));
+
+        list.clearFilters();
+        source.forEach(name -> assertTrue(list.contains(name)));
+    }
+
+    @Test
+    public void clearFilters_matchesAllElements() {
+        list.addPredicate(name -> name.startsWith("b"));
+        assertEquals(List.of("bob", "benson"), list.getFilteredList());
+
+        list.clearFilters();
+        assertEquals(source, list.getFilteredList());
+
+        // predicates added after clearing are not combined with those before
+        list.addPredicate(name -> name.startsWith("c"));
+        assertEquals(List.of("carl"), list.getFilteredList());
+    }
+
+    @Test
+    public void clearFilters_nothingExcluded_pastPredicatesNotTestedAgain() {
+        Set<String> tested = new HashSet<>();
+        list.addPredicate(name -> tested.add(name) || true);
+        assertEquals(source, list.getFilteredList());
+
+        list.clearFilters();
+        tested.clear();
+        source.add("dan");
+        assertEquals(source, list.getFilteredList());
+        assertTrue(list.contains("dan"));
+        assertFalse(list.isFiltered());
+        assertTrue(tested.isEmpty());
+    }
+
+    @Test
+    public void contains_nonMatchRemovedAndAddedBack_testedAgain() {
+        list.addPredicate(name -> name.startsWith("a"));
+        source.remove("bob");
+        source.remove("alice");
+        list.addPredicate(name -> name.length() > 3);
+        assertEquals(List.of("anna"), list.getFilteredList());
+
+        source.addAll(List.of("bob", "alice"));
+        assertFalse(list.contains("bob"));
+        assertTrue(list.contains("alice"));
+        assertEquals(List.of("anna", "alice"), list.getFilteredList());
+    }
+
+    @Test
+    public void isFiltered_onlyWhenElementsExcluded() {
+        assertFalse(list.isFiltered());
+
+        list.addPredicate(name -> true);
+        assertFalse(list.isFiltered());
+
+        list.addPredicate(name -> !name.equals("dan"));
+        assertFalse(list.isFiltered());
+        source.add("dan");
+        assertTrue(list.isFiltered());
+        source.remove("dan");
+        assertFalse(list.isFiltered());
+    }
+}
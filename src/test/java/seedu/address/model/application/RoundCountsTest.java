@@ -0,0 +1,77 @@
+package seedu.address.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalApplications.ALICE_DS_MICROSOFT;
+import static seedu.address.testutil.TypicalApplications.ALICE_SWE_GOOGLE;
+import static seedu.address.testutil.TypicalApplications.BOB_SWE_GOOGLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RoundCountsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RoundCounts(null));
+    }
+
+    @Test
+    public void constructor_wrongNumberOfRounds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RoundCounts(new int[RoundCounts.ROUND_COUNT - 1]));
+    }
+
+    @Test
+    public void constructor_countsModifiedAfterwards_unchanged() {
+        int[] counts = new int[RoundCounts.ROUND_COUNT];
+        RoundCounts roundCounts = new RoundCounts(counts);
+        counts[0] = 1;
+        assertEquals(0, roundCounts.get(0));
+    }
+
+    @Test
+    public void of_countsApplicationsByStatus() {
+        RoundCounts roundCounts = RoundCounts.of(List.of(ALICE_SWE_GOOGLE, BOB_SWE_GOOGLE, ALICE_DS_MICROSOFT));
+        assertEquals(1, roundCounts.get(0));
+        assertEquals(1, roundCounts.get(1));
+        assertEquals(1, roundCounts.get(2));
+        assertEquals(0, roundCounts.get(3));
+        assertEquals(3, roundCounts.getTotal());
+        assertEquals(1, roundCounts.getMax());
+
+        RoundCounts noCounts = RoundCounts.of(List.of());
+        assertEquals(0, noCounts.getTotal());
+        assertEquals(0, noCounts.getMax());
+    }
+
+    @Test
+    public void plus_addsCountsRoundByRound() {
+        RoundCounts googleCounts = RoundCounts.of(List.of(ALICE_SWE_GOOGLE, BOB_SWE_GOOGLE));
+        RoundCounts microsoftCounts = RoundCounts.of(List.of(ALICE_DS_MICROSOFT));
+        assertEquals(RoundCounts.of(List.of(ALICE_SWE_GOOGLE, BOB_SWE_GOOGLE, ALICE_DS_MICROSOFT)),
+                googleCounts.plus(microsoftCounts));
+    }
+
+    @Test
+    public void equals() {
+        RoundCounts roundCounts = RoundCounts.of(List.of(ALICE_SWE_GOOGLE));
+
+        // same values -> returns true
+        assertTrue(roundCounts.equals(RoundCounts.of(List.of(ALICE_SWE_GOOGLE))));
+
+        // same object -> returns true
+        assertTrue(roundCounts.equals(roundCounts));
+
+        // null -> returns false
+        assertFalse(roundCounts.equals(null));
+
+        // different type -> returns false
+        assertFalse(roundCounts.equals(5));
+
+        // different counts -> returns false
+        assertFalse(roundCounts.equals(RoundCounts.of(List.of(BOB_SWE_GOOGLE))));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -166,6 +167,28 @@ public class UniqueApplicationListTest {
                 () -> uniqueApplicationList.setApplications(listWithDuplicateApplications));
     }
 
+    @Test
+    public void setApplications_map_replacesApplicationsInPlace() {
+        uniqueApplicationList.add(ALICE_SWE_GOOGLE);
+        uniqueApplicationList.add(BOB_SWE_GOOGLE);
+        Application advancedApplication = ALICE_SWE_GOOGLE.advance(1);
+        uniqueApplicationList.setApplications(Map.of(ALICE_SWE_GOOGLE, advancedApplication));
+        UniqueApplicationList expectedList = new UniqueApplicationList();
+        expectedList.add(advancedApplication);
+        expectedList.add(BOB_SWE_GOOGLE);
+        assertEquals(expectedList, uniqueApplicationList);
+        assertTrue(uniqueApplicationList.contains(advancedApplication));
+        assertFalse(uniqueApplicationList.contains(ALICE_SWE_GOOGLE));
+    }
+
+    @Test
+    public void setApplications_mapWithNonUniqueApplication_throwsDuplicateApplicationException() {
+        uniqueApplicationList.add(ALICE_SWE_GOOGLE);
+        uniqueApplicationList.add(BOB_SWE_GOOGLE);
+        assertThrows(DuplicateApplicationException.class, () ->
+                uniqueApplicationList.setApplications(Map.of(ALICE_SWE_GOOGLE, BOB_SWE_GOOGLE)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class,
@@ -1,9 +1,13 @@
 package seedu.address.model.job;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class JobTitleTest {
@@ -18,6 +22,12 @@ public class JobTitleTest {
         assertThrows(IllegalArgumentException.class, () -> new JobTitle(invalidJobTitle));
     }
 
+    @Test
+    public void ofValidated_validJobTitle_equalsConstructedJobTitle() {
+        assertEquals(new JobTitle("Software Engineer"), JobTitle.ofValidated("Software Engineer"));
+        assertThrows(NullPointerException.class, () -> JobTitle.ofValidated(null));
+    }
+
     @Test
     public void isValidJobTitle() {
         // null skill name
@@ -40,4 +50,18 @@ public class JobTitleTest {
         assertTrue(JobTitle.isValidJobTitle("96 "));
         assertTrue(JobTitle.isValidJobTitle("Test 96")); // alphanumeric
     }
+
+    @Test
+    public void toStringAndSearchTokens_repeatedCalls_sameResults() {
+        JobTitle jobTitle = new JobTitle("software ENGINEER");
+        assertEquals("Software Engineer", jobTitle.toString());
+        assertEquals(Set.of("software", "engineer"), jobTitle.getSearchTokens());
+        assertSame(jobTitle.toString(), jobTitle.toString());
+        assertSame(jobTitle.getSearchTokens(), jobTitle.getSearchTokens());
+    }
+
+    @Test
+    public void hashCode_equalJobTitles_sameHashCode() {
+        assertEquals(new JobTitle("Engineer").hashCode(), new JobTitle("Engineer").hashCode());
+    }
 }
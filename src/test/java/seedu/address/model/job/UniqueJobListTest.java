@@ -113,6 +113,13 @@ public class UniqueJobListTest {
         assertEquals(expectedUniqueJobList, uniqueJobList);
     }
 
+    @Test
+    public void remove_existingJob_releasesIdentity() {
+        uniqueJobList.add(SOFTWARE_ENGINEER_GOOGLE);
+        uniqueJobList.remove(SOFTWARE_ENGINEER_GOOGLE);
+        assertFalse(uniqueJobList.contains(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
     @Test
     public void setJobs_nullUniqueJobList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueJobList.setJobs((UniqueJobList) null));
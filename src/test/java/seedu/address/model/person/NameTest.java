@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,12 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValidated_validName_equalsConstructedName() {
+        assertEquals(new Name("Alice Pauline"), Name.ofValidated("Alice Pauline"));
+        assertThrows(NullPointerException.class, () -> Name.ofValidated(null));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.search.PersonField;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFieldsContainKeywordsPredicateTest {
+
+    private final Person person = new PersonBuilder().withName("Alice Tan").withEmail("alice@nus.edu")
+            .withSchool("NUS").withDegree("Computer Science").withSkills("Node.js", "Java").build();
+
+    @Test
+    public void equals() {
+        PersonFieldsContainKeywordsPredicate firstPredicate =
+                new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.NAME, List.of("first")));
+        PersonFieldsContainKeywordsPredicate secondPredicate =
+                new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.SCHOOL, List.of("first")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(
+                new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.NAME, List.of("first")))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_everyFieldMatches_returnsTrue() {
+        // text field matched by any word
+        assertTrue(new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.NAME, List.of("bob", "TAN")))
+                .test(person));
+
+        // name matched by sound
+        assertTrue(new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.NAME_SOUND, List.of("Alyss", "Tann")))
+                .test(person));
+
+        // exact fields matched by whole value
+        assertTrue(new PersonFieldsContainKeywordsPredicate(Map.of(
+                PersonField.EMAIL, List.of("Alice@NUS.edu"),
+                PersonField.SKILL, List.of("NODE.JS"))).test(person));
+
+        // several fields
+        assertTrue(new PersonFieldsContainKeywordsPredicate(Map.of(
+                PersonField.SCHOOL, List.of("nus"),
+                PersonField.DEGREE, List.of("science"))).test(person));
+    }
+
+    @Test
+    public void test_someFieldDoesNotMatch_returnsFalse() {
+        // keyword only appears in another field
+        assertFalse(new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.NAME, List.of("nus")))
+                .test(person));
+
+        // name does not sound alike
+        assertFalse(new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.NAME_SOUND, List.of("Bob")))
+                .test(person));
+
+        // exact fields are only matched by their whole value
+        assertFalse(new PersonFieldsContainKeywordsPredicate(Map.of(PersonField.SKILL, List.of("node")))
+                .test(person));
+
+        // one of several fields does not match
+        assertFalse(new PersonFieldsContainKeywordsPredicate(Map.of(
+                PersonField.SCHOOL, List.of("nus"),
+                PersonField.DEGREE, List.of("physics"))).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Map<PersonField, List<String>> keywordsByField = Map.of(PersonField.NAME, List.of("keyword1"));
+        PersonFieldsContainKeywordsPredicate predicate = new PersonFieldsContainKeywordsPredicate(keywordsByField);
+
+        String expected = PersonFieldsContainKeywordsPredicate.class.getCanonicalName()
+                + "{keywordsByField=" + keywordsByField + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
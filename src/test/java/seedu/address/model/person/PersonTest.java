@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -90,6 +91,20 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+    }
+
+    @Test
+    public void getSearchTokens_repeatedCalls_sameTokens() {
+        assertTrue(ALICE.getSearchTokens().containsAll(ALICE.getName().getSearchTokens()));
+        assertSame(ALICE.getSearchTokens(), ALICE.getSearchTokens());
+        assertThrows(UnsupportedOperationException.class, () -> ALICE.getSearchTokens().add("bob"));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -0,0 +1,65 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void distance() {
+        assertEquals(0, BkTree.distance("alice", "alice"));
+        assertEquals(1, BkTree.distance("alice", "alise"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(5, BkTree.distance("", "alice"));
+    }
+
+    @Test
+    public void add_duplicateTerm_returnsFalse() {
+        assertTrue(tree.add("alice"));
+        assertFalse(tree.add("alice"));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_returnsTermsWithinDistanceClosestFirst() {
+        List.of("alice", "alex", "alise", "benson", "bernice", "carl").forEach(tree::add);
+
+        assertEquals(List.of(new BkTree.Match("alise", 0), new BkTree.Match("alice", 1)),
+                tree.search("alise", 1));
+        assertEquals(List.of("alise", "alice", "alex"),
+                tree.search("alise", 3).stream().map(BkTree.Match::term).toList());
+        assertEquals(List.of(), tree.search("daniel", 1));
+    }
+
+    @Test
+    public void search_sameAsComparingEveryTerm() {
+        List<String> terms = IntStream.range(0, 300).mapToObj(i -> Integer.toString(i * 7919, 36)).toList();
+        terms.forEach(tree::add);
+
+        for (String query : List.of("abc", "1x9", "zz", "4k2p")) {
+            List<String> expected = terms.stream()
+                    .filter(term -> BkTree.distance(query, term) <= 2)
+                    .map(term -> new BkTree.Match(term, BkTree.distance(query, term)))
+                    .sorted(BkTree.Match.CLOSEST_FIRST)
+                    .map(BkTree.Match::term)
+                    .toList();
+            assertEquals(expected, tree.search(query, 2).stream().map(BkTree.Match::term).toList());
+        }
+    }
+
+    @Test
+    public void clear_removesAllTerms() {
+        tree.add("alice");
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(List.of(), tree.search("alice", 3));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyKeywordTest {
+
+    @Test
+    public void parse_ordinaryKeyword_returnsEmpty() {
+        assertEquals(Optional.empty(), FuzzyKeyword.parse("alice"));
+        assertEquals(Optional.empty(), FuzzyKeyword.parse("~"));
+        assertEquals(Optional.empty(), FuzzyKeyword.parse("alice~9"));
+    }
+
+    @Test
+    public void parse_fuzzyKeyword_returnsTermAndDistance() {
+        assertEquals(Optional.of(new FuzzyKeyword("alise", 1)), FuzzyKeyword.parse("Alise~"));
+        assertEquals(Optional.of(new FuzzyKeyword("sofware", 2)), FuzzyKeyword.parse("sofware~"));
+        assertEquals(Optional.of(new FuzzyKeyword("al", 0)), FuzzyKeyword.parse("al~"));
+        assertEquals(Optional.of(new FuzzyKeyword("alise", 3)), FuzzyKeyword.parse("alise~3"));
+    }
+
+    @Test
+    public void matches() {
+        FuzzyKeyword keyword = new FuzzyKeyword("alise", 1);
+        assertTrue(keyword.matches("alice"));
+        assertFalse(keyword.matches("alex"));
+    }
+
+    @Test
+    public void anyMatches_onlyFuzzyKeywordsMatch() {
+        assertTrue(FuzzyKeyword.anyMatches(List.of("bob", "alise~"), Set.of("alice", "pauline")));
+        assertFalse(FuzzyKeyword.anyMatches(List.of("alise"), Set.of("alice")));
+    }
+}
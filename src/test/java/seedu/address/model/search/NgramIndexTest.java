@@ -0,0 +1,67 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class NgramIndexTest {
+
+    private final NgramIndex<String> index = new NgramIndex<>(Function.identity());
+
+    @Test
+    public void findContaining_returnsItemsContainingSubstringInIndexedOrder() {
+        index.add("Christopher Tan");
+        index.add("Kristine Lee");
+        index.add("Bob Chris");
+
+        assertEquals(List.of("Christopher Tan", "Bob Chris"), index.findContaining("CHRIS"));
+        assertEquals(List.of("Christopher Tan", "Kristine Lee", "Bob Chris"), index.findContaining("ris"));
+        assertEquals(List.of("Kristine Lee"), index.findContaining("e l"));
+        assertEquals(List.of(), index.findContaining("christine"));
+        assertEquals(List.of(), index.findContaining(""));
+    }
+
+    @Test
+    public void findContaining_sameAsScanningEveryItem() {
+        List<String> items = IntStream.range(0, 500).mapToObj(i -> Integer.toString(i * 7919, 36)).toList();
+        index.rebuild(items);
+
+        for (String substring : List.of("a", "1x", "k2", "abc", "2k9", "zz1")) {
+            List<String> expected = items.stream().filter(item -> item.contains(substring)).toList();
+            assertEquals(expected, index.findContaining(substring));
+        }
+    }
+
+    @Test
+    public void containing_afterRemove_reflectsChanges() {
+        index.add("Christopher Tan");
+        assertTrue(index.containing("topher").test("Christopher Tan"));
+
+        index.remove("Christopher Tan");
+        assertFalse(index.containing("topher").test("Christopher Tan"));
+        assertFalse(index.containing("to").test("Christopher Tan"));
+    }
+
+    @Test
+    public void matching_prefixKeyword_onlyMatchesStartOfWords() {
+        index.add("Christopher Tan");
+        assertTrue(index.matching(new PartialKeyword("chris", false)).test("Christopher Tan"));
+        assertFalse(index.matching(new PartialKeyword("topher", false)).test("Christopher Tan"));
+        assertTrue(index.matching(new PartialKeyword("topher", true)).test("Christopher Tan"));
+    }
+
+    @Test
+    public void countCandidates() {
+        index.add("Christopher Tan");
+        index.add("Kristine Lee");
+        assertEquals(2, index.countCandidates("ris"));
+        assertEquals(1, index.countCandidates("christ"));
+        assertEquals(0, index.countCandidates("xyz"));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PartialKeywordTest {
+
+    @Test
+    public void parse_ordinaryKeyword_returnsEmpty() {
+        assertEquals(Optional.empty(), PartialKeyword.parse("chris"));
+        assertEquals(Optional.empty(), PartialKeyword.parse("*"));
+        assertEquals(Optional.empty(), PartialKeyword.parse("*chris"));
+        assertEquals(Optional.empty(), PartialKeyword.parse("ch*ris*"));
+    }
+
+    @Test
+    public void parse_partialKeyword_returnsTextAndPosition() {
+        assertEquals(Optional.of(new PartialKeyword("chris", false)), PartialKeyword.parse("Chris*"));
+        assertEquals(Optional.of(new PartialKeyword("topher", true)), PartialKeyword.parse("*topher*"));
+    }
+
+    @Test
+    public void matches() {
+        PartialKeyword prefix = new PartialKeyword("chris", false);
+        assertTrue(prefix.matches("Christopher Tan"));
+        assertTrue(prefix.matches("Bob Christensen"));
+        assertFalse(prefix.matches("Kristopher Chan"));
+
+        assertTrue(new PartialKeyword("topher", true).matches("Christopher Tan"));
+    }
+
+    @Test
+    public void anyMatches_onlyPartialKeywordsMatch() {
+        assertTrue(PartialKeyword.anyMatches(List.of("bob", "chris*"), "Christopher Tan"));
+        assertFalse(PartialKeyword.anyMatches(List.of("chris"), "Christopher Tan"));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SoundexTest {
+
+    @Test
+    public void encode() {
+        assertEquals("R163", Soundex.encode("Robert"));
+        assertEquals("R163", Soundex.encode("Rupert"));
+        assertEquals("A261", Soundex.encode("Ashcraft"));
+        assertEquals("T522", Soundex.encode("Tymczak"));
+        assertEquals("P236", Soundex.encode("Pfister"));
+        assertEquals("H555", Soundex.encode("Honeyman"));
+        assertEquals("L000", Soundex.encode("Lee"));
+    }
+
+    @Test
+    public void encode_namesSpeltByEar_sameCode() {
+        assertEquals(Soundex.encode("John"), Soundex.encode("Jon"));
+        assertEquals(Soundex.encode("Smith"), Soundex.encode("Smyth"));
+        assertEquals(Soundex.encode("Catherine"), Soundex.encode("cathryn"));
+    }
+
+    @Test
+    public void encode_nonLetters_ignored() {
+        assertEquals("O165", Soundex.encode("O'Brien-"));
+        assertEquals("", Soundex.encode("123"));
+        assertEquals("", Soundex.encode(""));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTest {
+
+    private final TokenIndex<String> index = new TokenIndex<>(item -> Set.of(item.split(" ")));
+
+    @Test
+    public void findWithAny_matchingTokens_returnsUnionInIndexedOrder() {
+        index.add("alice tan");
+        index.add("bob lee");
+        index.add("carol tan");
+
+        assertEquals(List.of("alice tan", "carol tan"), index.findWithAny(List.of("tan")));
+        assertEquals(List.of("bob lee", "alice tan", "carol tan"), index.findWithAny(List.of("bob", "tan")));
+        assertEquals(List.of(), index.findWithAny(List.of("dan")));
+    }
+
+    @Test
+    public void containsAny_afterRemove_reflectsChanges() {
+        index.add("alice tan");
+        assertTrue(index.containsAny("alice tan", List.of("lee", "alice")));
+
+        index.remove("alice tan");
+        assertFalse(index.containsAny("alice tan", List.of("alice")));
+        assertEquals(Set.of(), index.get("alice"));
+    }
+
+    @Test
+    public void rebuild_discardsPreviousItems() {
+        index.add("alice tan");
+        index.rebuild(List.of("bob lee"));
+
+        assertEquals(List.of(), index.findWithAny(List.of("alice")));
+        assertEquals(Set.of("bob lee"), index.get("lee"));
+    }
+
+    @Test
+    public void findSimilarTokens_onlyReturnsTokensThatItemsHave() {
+        TokenIndex<String> similarIndex = TokenIndex.withSimilarTokenSearch(item -> Set.of(item.split(" ")));
+        similarIndex.add("alice tan");
+        similarIndex.add("alex ng");
+        assertEquals(List.of("alice", "alex"), similarIndex.findSimilarTokens("alise", 3));
+
+        similarIndex.remove("alice tan");
+        assertEquals(List.of("alex"), similarIndex.findSimilarTokens("alise", 3));
+
+        similarIndex.add("alice wong");
+        assertEquals(List.of("alice", "alex"), similarIndex.findSimilarTokens("alise", 3));
+    }
+
+    @Test
+    public void findSimilarTokens_afterManyRemovals_staysCorrect() {
+        TokenIndex<String> similarIndex = TokenIndex.withSimilarTokenSearch(item -> Set.of(item));
+        for (int i = 0; i < 50; i++) {
+            similarIndex.add("name" + i);
+        }
+        for (int i = 0; i < 45; i++) {
+            similarIndex.remove("name" + i);
+        }
+        assertEquals(List.of("name45", "name46", "name47", "name48", "name49"),
+                similarIndex.findSimilarTokens("name4", 1).stream().sorted().toList());
+    }
+
+    @Test
+    public void findSimilarTokens_withoutSimilarTokenSearch_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> index.findSimilarTokens("alice", 1));
+    }
+
+    @Test
+    public void get_modifyPosting_throwsUnsupportedOperationException() {
+        index.add("alice tan");
+        assertThrows(UnsupportedOperationException.class, () -> index.get("alice").clear());
+    }
+}
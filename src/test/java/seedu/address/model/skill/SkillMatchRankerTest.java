@@ -0,0 +1,98 @@
+package seedu.address.model.skill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class SkillMatchRankerTest {
+
+    private static final SkillSet TARGET = skills("java", "python", "sql");
+
+    @Test
+    public void rank_orderedByMatchedSkillsThenJaccardThenPosition() {
+        List<SkillSet> items = List.of(
+                skills("java"), // 1 matched, jaccard 1/3
+                skills("java", "python", "sql"), // 3 matched
+                skills("python", "go"), // 1 matched, jaccard 1/4
+                skills("sql"), // 1 matched, jaccard 1/3, later than first item
+                skills("java", "sql", "go", "rust")); // 2 matched
+
+        List<SkillSet> ranked = items(SkillMatchRanker.rank(items, skillSet -> skillSet, TARGET, 10));
+
+        assertEquals(List.of(items.get(1), items.get(4), items.get(0), items.get(3), items.get(2)), ranked);
+    }
+
+    @Test
+    public void rank_itemsWithoutTargetSkills_excluded() {
+        List<SkillSet> items = List.of(skills("go"), SkillSet.EMPTY, skills("python"));
+
+        List<SkillMatch<SkillSet>> ranked = SkillMatchRanker.rank(items, skillSet -> skillSet, TARGET, 10);
+
+        assertEquals(1, ranked.size());
+        assertEquals(2, ranked.get(0).position());
+        assertEquals(1, ranked.get(0).matchedSkills());
+        assertEquals(2, ranked.get(0).missingSkills());
+    }
+
+    @Test
+    public void rank_limit_keepsBestMatches() {
+        List<SkillSet> items = List.of(skills("java"), skills("java", "python"), skills("java", "python", "sql"));
+
+        assertEquals(List.of(items.get(2), items.get(1)),
+                items(SkillMatchRanker.rank(items, skillSet -> skillSet, TARGET, 2)));
+        assertTrue(SkillMatchRanker.rank(items, skillSet -> skillSet, TARGET, 0).isEmpty());
+        assertTrue(SkillMatchRanker.rank(items, skillSet -> skillSet, SkillSet.EMPTY, 2).isEmpty());
+    }
+
+    @Test
+    public void rank_splitIntoRanges_sameAsSequential() {
+        String[] pool = {"java", "python", "sql", "go", "rust", "c"};
+        List<SkillSet> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int mask = (i * 37) % 64;
+            items.add(SkillSet.of(Stream.of(0, 1, 2, 3, 4, 5)
+                    .filter(bit -> (mask & (1 << bit)) != 0)
+                    .map(bit -> new Skill(pool[bit]))
+                    .collect(Collectors.toSet())));
+        }
+
+        List<SkillMatch<SkillSet>> sequential = SkillMatchRanker.rank(items, skillSet -> skillSet, TARGET, 25,
+                items.size());
+        List<SkillMatch<SkillSet>> parallel = SkillMatchRanker.rank(items, skillSet -> skillSet, TARGET, 25, 16);
+
+        assertEquals(25, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void rankCoveredBy_orderedByMatchedSkillsThenJaccard() {
+        SkillIndex<SkillSet> index = new SkillIndex<>(skillSet -> skillSet);
+        List<SkillSet> items = List.of(
+                skills("java", "go", "rust"), // 1 matched, 2 missing
+                skills("java", "python"), // 2 matched, 0 missing
+                skills("go"), // no overlap
+                skills("java", "python", "c")); // 2 matched, 1 missing
+        items.forEach(index::add);
+
+        List<SkillMatch<SkillSet>> ranked = SkillMatchRanker.rankCoveredBy(index, skillSet -> skillSet, TARGET, 10);
+
+        assertEquals(List.of(items.get(1), items.get(3), items.get(0)), items(ranked));
+        assertEquals(List.of(0, 1, 2), ranked.stream().map(SkillMatch::missingSkills).toList());
+        assertEquals(List.of(items.get(1)), items(SkillMatchRanker.rankCoveredBy(index, skillSet -> skillSet,
+                TARGET, 1)));
+    }
+
+    private static SkillSet skills(String... skillNames) {
+        return SkillSet.of(Stream.of(skillNames).map(Skill::new).collect(Collectors.toSet()));
+    }
+
+    private static List<SkillSet> items(List<SkillMatch<SkillSet>> matches) {
+        return matches.stream().map(SkillMatch::item).toList();
+    }
+}
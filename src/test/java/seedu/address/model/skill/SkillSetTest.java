@@ -0,0 +1,92 @@
+package seedu.address.model.skill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SkillSetTest {
+
+    private static final Skill JAVA = new Skill("java");
+    private static final Skill PYTHON = new Skill("python");
+    private static final Skill SQL = new Skill("sql");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SkillSet.of(null));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertTrue(SkillSet.of(Set.of()).isEmpty());
+        assertEquals(SkillSet.EMPTY, SkillSet.of(List.of()));
+    }
+
+    @Test
+    public void ofKnown_unseenSkill_leftOutAndNotAddedToDictionary() {
+        Skill unseen = new Skill("ofKnownNeverSeenBefore");
+        assertEquals(SkillSet.of(Set.of(JAVA)), SkillSet.ofKnown(List.of(JAVA, unseen)));
+        assertEquals(SkillSet.EMPTY, SkillSet.ofKnown(List.of(unseen)));
+        assertEquals(SkillDictionary.UNKNOWN_ID, SkillDictionary.find(unseen));
+    }
+
+    @Test
+    public void contains() {
+        SkillSet skillSet = SkillSet.of(Set.of(JAVA, PYTHON));
+        assertTrue(skillSet.contains(JAVA));
+        assertFalse(skillSet.contains(SQL));
+        assertFalse(skillSet.contains(new Skill("neverSeenBefore")));
+    }
+
+    @Test
+    public void containsAll() {
+        SkillSet javaPython = SkillSet.of(Set.of(JAVA, PYTHON));
+        assertTrue(javaPython.containsAll(SkillSet.of(Set.of(JAVA))));
+        assertTrue(javaPython.containsAll(SkillSet.EMPTY));
+        assertFalse(javaPython.containsAll(SkillSet.of(Set.of(JAVA, SQL))));
+        assertFalse(SkillSet.EMPTY.containsAll(javaPython));
+    }
+
+    @Test
+    public void intersection() {
+        SkillSet javaPython = SkillSet.of(Set.of(JAVA, PYTHON));
+        SkillSet pythonSql = SkillSet.of(Set.of(PYTHON, SQL));
+        assertTrue(javaPython.intersects(pythonSql));
+        assertEquals(1, javaPython.intersectionSize(pythonSql));
+        assertFalse(javaPython.intersects(SkillSet.of(Set.of(SQL))));
+        assertEquals(0, javaPython.intersectionSize(SkillSet.EMPTY));
+    }
+
+    @Test
+    public void forEachId_visitsEverySkill() {
+        List<Skill> visited = new ArrayList<>();
+        SkillSet.of(Set.of(JAVA, PYTHON, SQL)).forEachId(id -> visited.add(SkillDictionary.skillOf(id)));
+        assertEquals(Set.of(JAVA, PYTHON, SQL), Set.copyOf(visited));
+        assertEquals(3, SkillSet.of(Set.of(JAVA, PYTHON, SQL)).size());
+    }
+
+    @Test
+    public void equals() {
+        SkillSet javaPython = SkillSet.of(Set.of(JAVA, PYTHON));
+
+        // same skills, regardless of order -> returns true
+        assertEquals(javaPython, SkillSet.of(List.of(PYTHON, JAVA)));
+        assertEquals(javaPython.hashCode(), SkillSet.of(List.of(PYTHON, JAVA)).hashCode());
+
+        // same object -> returns true
+        assertTrue(javaPython.equals(javaPython));
+
+        // null -> returns false
+        assertFalse(javaPython.equals(null));
+
+        // different skills -> returns false
+        assertNotEquals(javaPython, SkillSet.of(Set.of(JAVA)));
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.skill.SkillSet;
+
+public class StatsQueryTest {
+
+    private static final List<ApplicationRecord> RECORDS = List.of(
+            record(0, "nus", List.of("java", "python"), "software engineer", 1, "java"),
+            record(0, "nus", List.of("java", "python"), "data scientist", 0, "python"),
+            record(1, "ntu", List.of("java"), "software engineer", 2, "java"),
+            record(2, "nus", List.of(), "software engineer", 10, "java"));
+
+    @Test
+    public void evaluate_groupBySchool_computesMetricsOfEachGroup() {
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.SCHOOL),
+                List.of(StatsMetric.COUNT, StatsMetric.PERSONS, StatsMetric.AVERAGE_ROUND), Set.of());
+
+        StatsTable table = query.evaluate(RECORDS);
+
+        assertEquals(List.of("school", "count", "persons", "avground"), table.header());
+        assertEquals(List.of(List.of("ntu", "1", "1", "2.00"), List.of("nus", "3", "2", "3.67")), table.rows());
+    }
+
+    @Test
+    public void evaluate_groupBySkill_countsRecordInGroupOfEachSkill() {
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.SKILL), List.of(StatsMetric.COUNT), Set.of());
+
+        // the applicant without skills is not in any group
+        assertEquals(List.of(List.of("java", "3"), List.of("python", "2")), query.evaluate(RECORDS).rows());
+    }
+
+    @Test
+    public void evaluate_groupByTwoDimensions_ordersGroupsByFirstThenSecondDimension() {
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.SCHOOL, StatsDimension.ROUND),
+                List.of(StatsMetric.COUNT), Set.of());
+
+        // rounds are ordered as numbers
+        assertEquals(List.of(List.of("ntu", "2", "1"), List.of("nus", "0", "1"), List.of("nus", "1", "1"),
+                List.of("nus", "10", "1")), query.evaluate(RECORDS).rows());
+    }
+
+    @Test
+    public void evaluate_requiredJobSkills_onlyCountsJobsRequiringThem() {
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.JOB), List.of(StatsMetric.COUNT),
+                Set.of(new Skill("python")));
+
+        assertEquals(List.of(List.of("data scientist", "1")), query.evaluate(RECORDS).rows());
+    }
+
+    @Test
+    public void evaluate_splitIntoRanges_sameAsSequential() {
+        String[] schools = {"nus", "ntu", "smu"};
+        List<ApplicationRecord> records = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            records.add(record(i % 37, schools[i % 3], List.of("java"), "job " + (i % 4), i % 5, "java"));
+        }
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.JOB, StatsDimension.SCHOOL),
+                List.of(StatsMetric.COUNT, StatsMetric.PERSONS, StatsMetric.AVERAGE_ROUND), Set.of());
+
+        assertEquals(query.evaluate(records, records.size()), query.evaluate(records, 7));
+    }
+
+    @Test
+    public void equals() {
+        StatsQuery query = new StatsQuery(List.of(StatsDimension.SCHOOL), List.of(StatsMetric.COUNT), Set.of());
+
+        // same values -> returns true
+        assertTrue(query.equals(new StatsQuery(List.of(StatsDimension.SCHOOL), List.of(StatsMetric.COUNT),
+                Set.of())));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different dimensions -> returns false
+        assertFalse(query.equals(new StatsQuery(List.of(StatsDimension.DEGREE), List.of(StatsMetric.COUNT),
+                Set.of())));
+
+        // different required job skills -> returns false
+        assertFalse(query.equals(new StatsQuery(List.of(StatsDimension.SCHOOL), List.of(StatsMetric.COUNT),
+                Set.of(new Skill("java")))));
+    }
+
+    private static ApplicationRecord record(int applicantId, String school, List<String> skills, String jobTitle,
+            int round, String... jobSkills) {
+        return new ApplicationRecord(new Name("applicant " + applicantId), school, "computer science", skills, jobTitle,
+                SkillSet.of(Arrays.stream(jobSkills).map(Skill::new).collect(Collectors.toSet())), round);
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinarySnapshotCacheStorageTest {
+
+    private static final long SNAPSHOT_ID = 42;
+
+    @TempDir
+    public Path testFolder;
+
+    private BinarySnapshotCacheStorage getSnapshotCacheStorage() {
+        return new BinarySnapshotCacheStorage(testFolder.resolve("snapshot.cache"));
+    }
+
+    @Test
+    public void readSnapshotCache_missingFile_returnsEmpty() throws Exception {
+        assertTrue(getSnapshotCacheStorage().readSnapshotCache(SNAPSHOT_ID).isEmpty());
+    }
+
+    @Test
+    public void readSnapshotCache_savedData_returnsSavedData() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ApplicationsManager applicationsManager = getTypicalApplicationsManager();
+        BinarySnapshotCacheStorage snapshotCacheStorage = getSnapshotCacheStorage();
+        snapshotCacheStorage.saveSnapshotCache(addressBook, applicationsManager, SNAPSHOT_ID);
+
+        SnapshotCacheStorage.CachedData cachedData = snapshotCacheStorage.readSnapshotCache(SNAPSHOT_ID).get();
+        assertEquals(addressBook, new AddressBook(cachedData.addressBook()));
+        assertEquals(applicationsManager, new ApplicationsManager(cachedData.applicationsManager()));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(snapshotCacheStorage.getSnapshotCacheFilePath())));
+    }
+
+    @Test
+    public void readSnapshotCache_sharedValues_sharesInstances() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withSchool("NUS").withSkills("Java").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withSchool("NUS").withSkills("Java").build());
+        BinarySnapshotCacheStorage snapshotCacheStorage = getSnapshotCacheStorage();
+        snapshotCacheStorage.saveSnapshotCache(addressBook, new ApplicationsManager(), SNAPSHOT_ID);
+
+        SnapshotCacheStorage.CachedData cachedData = snapshotCacheStorage.readSnapshotCache(SNAPSHOT_ID).get();
+        Person amy = cachedData.addressBook().getPersonList().get(0);
+        Person bob = cachedData.addressBook().getPersonList().get(1);
+        assertSame(amy.getSchool(), bob.getSchool());
+        assertSame(amy.getSkills().iterator().next(), bob.getSkills().iterator().next());
+    }
+
+    @Test
+    public void readSnapshotCache_otherSnapshot_returnsEmpty() throws Exception {
+        BinarySnapshotCacheStorage snapshotCacheStorage = getSnapshotCacheStorage();
+        snapshotCacheStorage.saveSnapshotCache(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                SNAPSHOT_ID);
+
+        assertTrue(snapshotCacheStorage.readSnapshotCache(SNAPSHOT_ID + 1).isEmpty());
+    }
+
+    @Test
+    public void readSnapshotCache_damagedFile_throwsDataLoadingException() throws Exception {
+        BinarySnapshotCacheStorage snapshotCacheStorage = getSnapshotCacheStorage();
+        snapshotCacheStorage.saveSnapshotCache(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                SNAPSHOT_ID);
+        Path filePath = snapshotCacheStorage.getSnapshotCacheFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> snapshotCacheStorage.readSnapshotCache(SNAPSHOT_ID));
+    }
+}
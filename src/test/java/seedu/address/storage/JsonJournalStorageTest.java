@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Mutation;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonJournalStorageTest {
+
+    private static final long SNAPSHOT_ID = 42;
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+
+    private JsonJournalStorage getJournalStorage() {
+        return new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+    }
+
+    @Test
+    public void replayJournal_missingFile_returnsEmpty() throws Exception {
+        assertEquals(OptionalInt.empty(), getJournalStorage().replayJournal(model, SNAPSHOT_ID));
+    }
+
+    @Test
+    public void replayJournal_journaledMutations_appliesMutations() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+        Person editedAmy = new PersonBuilder(AMY).withPhone("91234567").build();
+        Application application = new Application(editedAmy, SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(1));
+        journalStorage.appendToJournal(List.of(new Mutation.AddPerson(AMY), new Mutation.AddPerson(BOB),
+                new Mutation.AddJob(SOFTWARE_ENGINEER_GOOGLE)));
+        journalStorage.appendToJournal(List.of(new Mutation.SetPerson(AMY, editedAmy),
+                new Mutation.DeletePerson(BOB), new Mutation.AddApplication(application)));
+
+        assertEquals(OptionalInt.of(6), getJournalStorage().replayJournal(model, SNAPSHOT_ID));
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(editedAmy);
+        expectedAddressBook.addJob(SOFTWARE_ENGINEER_GOOGLE);
+        ApplicationsManager expectedApplicationsManager = new ApplicationsManager();
+        expectedApplicationsManager.addApplication(application);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertEquals(expectedApplicationsManager, model.getApplicationsManager());
+    }
+
+    @Test
+    public void replayJournal_renamedPersonAndJob_applicationsResolvedByNewIdentities() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+        Person renamedAmy = new PersonBuilder(AMY).withName("Amy Renamed").build();
+        Job renamedJob = new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobTitle("Renamed Engineer").build();
+        Application application = new Application(renamedAmy, renamedJob, new ApplicationStatus(1));
+        journalStorage.appendToJournal(List.of(new Mutation.AddPerson(AMY),
+                new Mutation.AddJob(SOFTWARE_ENGINEER_GOOGLE), new Mutation.SetPerson(AMY, renamedAmy),
+                new Mutation.SetJob(SOFTWARE_ENGINEER_GOOGLE, renamedJob), new Mutation.AddApplication(application)));
+
+        assertEquals(OptionalInt.of(5), getJournalStorage().replayJournal(model, SNAPSHOT_ID));
+        assertTrue(model.hasApplication(application));
+        assertEquals(renamedAmy, model.getApplicationsByJob(renamedJob).get(0).getApplicant());
+    }
+
+    @Test
+    public void replayJournal_journalOfOtherSnapshot_returnsEmpty() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+        journalStorage.appendToJournal(List.of(new Mutation.AddPerson(AMY)));
+
+        assertEquals(OptionalInt.empty(), journalStorage.replayJournal(model, SNAPSHOT_ID + 1));
+        assertFalse(model.hasPerson(AMY));
+        assertSetAside(journalStorage);
+    }
+
+    @Test
+    public void replayJournal_emptyJournalOfOtherSnapshot_returnsEmpty() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+
+        assertEquals(OptionalInt.empty(), journalStorage.replayJournal(model, SNAPSHOT_ID + 1));
+        assertTrue(Files.exists(journalStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void replayJournal_incompleteLastLine_appliesPrecedingMutationsAndReturnsEmpty() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+        journalStorage.appendToJournal(List.of(new Mutation.AddPerson(AMY)));
+        Files.write(journalStorage.getJournalFilePath(), "{\"type\":\"ADD_PE".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(OptionalInt.empty(), journalStorage.replayJournal(model, SNAPSHOT_ID));
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void replayJournal_mutationNotFittingData_throwsDataLoadingException() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+        journalStorage.appendToJournal(List.of(new Mutation.DeletePerson(AMY)));
+
+        assertThrows(DataLoadingException.class, () -> journalStorage.replayJournal(model, SNAPSHOT_ID));
+        assertSetAside(journalStorage);
+    }
+
+    @Test
+    public void appendToJournal_reset_throwsIllegalArgumentException() throws Exception {
+        JsonJournalStorage journalStorage = getJournalStorage();
+        journalStorage.startJournal(SNAPSHOT_ID);
+        assertThrows(IllegalArgumentException.class, () -> journalStorage.appendToJournal(
+                List.of(new Mutation.ResetAddressBook(new AddressBook()))));
+    }
+
+    /**
+     * Asserts that the journal file of {@code journalStorage} has been moved aside, with its contents kept.
+     */
+    private void assertSetAside(JsonJournalStorage journalStorage) throws Exception {
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> setAsideFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(JsonJournalStorage.SET_ASIDE_FILE_SUFFIX))
+                    .toList();
+            assertEquals(1, setAsideFiles.size());
+            assertTrue(Files.readString(setAsideFiles.get(0)).contains("\"person\""));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.School;
+
+public class JsonRecordReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final String NEGATIVE_NUMBER_MESSAGE = "Number should not be negative";
+
+    @TempDir
+    public Path testFolder;
+
+    private Path writeDataFile(String json) throws IOException {
+        Path filePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(filePath, json);
+        return filePath;
+    }
+
+    private static Integer doubleNonNegative(Integer number) throws IllegalValueException {
+        if (number < 0) {
+            throw new IllegalValueException(NEGATIVE_NUMBER_MESSAGE);
+        }
+        return number * 2;
+    }
+
+    @Test
+    public void readRecords_manyBatches_handsOnConvertedRecordsInOrder() throws Exception {
+        int count = 3 * JsonRecordReader.BATCH_SIZE + 1;
+        String numbers = IntStream.range(0, count).mapToObj(Integer::toString).collect(Collectors.joining(","));
+        Path filePath = writeDataFile("{\"version\": 3, \"numbers\": [" + numbers + "], \"other\": {\"a\": [1]}}");
+
+        List<Integer> doubled = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        try (JsonRecordReader reader = new JsonRecordReader(filePath)) {
+            for (Optional<String> field = reader.nextField(); field.isPresent(); field = reader.nextField()) {
+                fields.add(field.get());
+                switch (field.get()) {
+                case "version" -> assertEquals(Integer.valueOf(3), reader.readValue(Integer.class));
+                case "numbers" -> reader.readRecords(Integer.class, JsonRecordReaderTest::doubleNonNegative,
+                        doubled::add);
+                default -> reader.skipValue();
+                }
+            }
+        }
+
+        assertEquals(List.of("version", "numbers", "other"), fields);
+        assertEquals(IntStream.range(0, count).mapToObj(i -> i * 2).collect(Collectors.toList()), doubled);
+    }
+
+    @Test
+    public void readRecords_nullList_handsOnNothing() throws Exception {
+        List<Integer> doubled = new ArrayList<>();
+        try (JsonRecordReader reader = new JsonRecordReader(writeDataFile("{\"numbers\": null}"))) {
+            reader.nextField();
+            reader.readRecords(Integer.class, JsonRecordReaderTest::doubleNonNegative, doubled::add);
+        }
+        assertEquals(List.of(), doubled);
+    }
+
+    @Test
+    public void readRecords_recordRejectedByConverter_throwsIllegalValueExceptionWithPosition() throws Exception {
+        Path filePath = writeDataFile("{\"numbers\": [\n  1,\n  -2,\n  3\n]}");
+        String expectedMessage = String.format(JsonRecordReader.MESSAGE_INVALID_RECORD, "numbers", 1, 3, 3,
+                NEGATIVE_NUMBER_MESSAGE);
+
+        try (JsonRecordReader reader = new JsonRecordReader(filePath)) {
+            reader.nextField();
+            assertThrows(IllegalValueException.class, expectedMessage, () -> reader.readRecords(Integer.class,
+                    JsonRecordReaderTest::doubleNonNegative, number -> {}));
+        }
+    }
+
+    @Test
+    public void readRecords_recordRejectedByConsumer_throwsIllegalValueExceptionWithPosition() throws Exception {
+        Path filePath = writeDataFile("{\"numbers\": [1, 2]}");
+        String expectedMessage = String.format(JsonRecordReader.MESSAGE_INVALID_RECORD, "numbers", 1, 1, 17,
+                "Duplicate");
+
+        try (JsonRecordReader reader = new JsonRecordReader(filePath)) {
+            reader.nextField();
+            assertThrows(IllegalValueException.class, expectedMessage, () -> reader.readRecords(Integer.class,
+                    JsonRecordReaderTest::doubleNonNegative, number -> {
+                        if (number == 4) {
+                            throw new IllegalValueException("Duplicate");
+                        }
+                    }));
+        }
+    }
+
+    @Test
+    public void readRecords_invalidPerson_throwsIllegalValueExceptionWithPosition() throws Exception {
+        String expectedMessage = String.format(JsonRecordReader.MESSAGE_INVALID_RECORD, "persons", 0, 3, 5,
+                String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, School.class.getSimpleName()));
+
+        try (JsonRecordReader reader = new JsonRecordReader(
+                TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"))) {
+            reader.nextField();
+            assertThrows(IllegalValueException.class, expectedMessage, () -> reader.readRecords(
+                    JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType, person -> {}));
+        }
+    }
+
+    @Test
+    public void readRecords_notAList_throwsIllegalValueException() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(writeDataFile("{\"numbers\": 1}"))) {
+            reader.nextField();
+            assertThrows(IllegalValueException.class, String.format(JsonRecordReader.MESSAGE_NOT_A_LIST, "numbers"),
+                    () -> reader.readRecords(Integer.class, JsonRecordReaderTest::doubleNonNegative, number -> {}));
+        }
+    }
+
+    @Test
+    public void constructor_notAnObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonRecordReader.MESSAGE_NOT_AN_OBJECT, () ->
+                new JsonRecordReader(writeDataFile("[1, 2]")));
+    }
+
+    @Test
+    public void readRecords_notJsonFormat_throwsIOException() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(writeDataFile("{\"numbers\": [1, 2"))) {
+            reader.nextField();
+            assertThrows(IOException.class, () -> reader.readRecords(Integer.class,
+                    JsonRecordReaderTest::doubleNonNegative, number -> {}));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonSerializableApplicationsManagerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get(
+            "src", "test", "data", "JsonSerializableApplicationsManagerTest");
+    private static final Path TYPICAL_APPLICATIONS_FILE = TEST_DATA_FOLDER.resolve(
+            "typicalApplicationsManager.json");
+    private static final Path LEGACY_APPLICATIONS_FILE = TEST_DATA_FOLDER.resolve(
+            "legacyApplicationsManager.json");
+    private static final Path LEGACY_UNKNOWN_APPLICANT_FILE = TEST_DATA_FOLDER.resolve(
+            "legacyUnknownApplicantApplicationsManager.json");
+    private static final Path UNKNOWN_APPLICANT_FILE = TEST_DATA_FOLDER.resolve(
+            "unknownApplicantApplicationsManager.json");
+    private static final Path DUPLICATE_APPLICATION_FILE = TEST_DATA_FOLDER.resolve(
+            "duplicateApplicationApplicationsManager.json");
+
+    private final AddressBook typicalAddressBook = TypicalPersons.getTypicalAddressBook();
+
+    @Test
+    public void toModelType_typicalApplicationsFile_success() throws Exception {
+        JsonSerializableApplicationsManager dataFromFile = JsonUtil.readJsonFile(TYPICAL_APPLICATIONS_FILE,
+                JsonSerializableApplicationsManager.class).get();
+        ApplicationsManager applicationsManagerFromFile = dataFromFile.toModelType(typicalAddressBook);
+        assertEquals(TypicalPersons.getTypicalApplicationsManager(), applicationsManagerFromFile);
+    }
+
+    @Test
+    public void toModelType_legacyApplicationsFile_success() throws Exception {
+        JsonSerializableApplicationsManager dataFromFile = JsonUtil.readJsonFile(LEGACY_APPLICATIONS_FILE,
+                JsonSerializableApplicationsManager.class).get();
+        ApplicationsManager applicationsManagerFromFile = dataFromFile.toModelType(typicalAddressBook);
+        assertEquals(TypicalPersons.getTypicalApplicationsManager(), applicationsManagerFromFile);
+    }
+
+    @Test
+    public void toModelType_legacyApplicationWithUnknownApplicant_applicationSkipped() throws Exception {
+        JsonSerializableApplicationsManager dataFromFile = JsonUtil.readJsonFile(LEGACY_UNKNOWN_APPLICANT_FILE,
+                JsonSerializableApplicationsManager.class).get();
+        ApplicationsManager applicationsManagerFromFile = dataFromFile.toModelType(typicalAddressBook);
+        assertEquals(TypicalPersons.getTypicalApplicationsManager(), applicationsManagerFromFile);
+    }
+
+    @Test
+    public void readModelType_legacyApplicationWithUnknownApplicant_applicationSkipped() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(LEGACY_UNKNOWN_APPLICANT_FILE)) {
+            ApplicationsManager applicationsManagerFromFile = JsonSerializableApplicationsManager.readModelType(
+                    reader, typicalAddressBook);
+            assertEquals(TypicalPersons.getTypicalApplicationsManager(), applicationsManagerFromFile);
+        }
+    }
+
+    @Test
+    public void toModelType_unknownApplicantOrJob_applicationsSkipped() throws Exception {
+        JsonSerializableApplicationsManager dataFromFile = JsonUtil.readJsonFile(UNKNOWN_APPLICANT_FILE,
+                JsonSerializableApplicationsManager.class).get();
+        ApplicationsManager expectedApplicationsManager = new ApplicationsManager();
+        expectedApplicationsManager.addApplication(TypicalPersons.ALICE_GOOGLE_APPLICATION);
+        assertEquals(expectedApplicationsManager, dataFromFile.toModelType(typicalAddressBook));
+    }
+
+    @Test
+    public void readModelType_unknownApplicantOrJob_applicationsSkipped() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(UNKNOWN_APPLICANT_FILE)) {
+            ApplicationsManager expectedApplicationsManager = new ApplicationsManager();
+            expectedApplicationsManager.addApplication(TypicalPersons.ALICE_GOOGLE_APPLICATION);
+            assertEquals(expectedApplicationsManager,
+                    JsonSerializableApplicationsManager.readModelType(reader, typicalAddressBook));
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateApplications_throwsIllegalValueException() throws Exception {
+        JsonSerializableApplicationsManager dataFromFile = JsonUtil.readJsonFile(DUPLICATE_APPLICATION_FILE,
+                JsonSerializableApplicationsManager.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableApplicationsManager.MESSAGE_DUPLICATE_APPLICATION,
+                () -> dataFromFile.toModelType(typicalAddressBook));
+    }
+
+    @Test
+    public void toModelType_savedApplicationsManager_roundTrips() throws Exception {
+        ApplicationsManager original = TypicalPersons.getTypicalApplicationsManager();
+        String json = JsonUtil.toJsonString(new JsonSerializableApplicationsManager(original));
+        JsonSerializableApplicationsManager dataFromJson = JsonUtil.fromJsonString(json,
+                JsonSerializableApplicationsManager.class);
+        assertEquals(original, dataFromJson.toModelType(typicalAddressBook));
+    }
+}
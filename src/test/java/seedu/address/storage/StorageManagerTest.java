@@ -1,10 +1,25 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,11 +27,18 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class StorageManagerTest {
 
+    private static final int COMPACTION_THRESHOLD = 3;
+
     @TempDir
     public Path testFolder;
 
@@ -24,11 +46,17 @@ public class StorageManagerTest {
 
     @BeforeEach
     public void setUp() {
+        storageManager = createStorageManager(new JsonApplicationsManagerStorage(getTempFilePath("am")),
+                new JsonJournalStorage(getTempFilePath("journal")), StorageManager.DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    private StorageManager createStorageManager(ApplicationsManagerStorage applicationsManagerStorage,
+            JournalStorage journalStorage, Duration compactionInterval) {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
-        JsonApplicationsManagerStorage applicationsManagerStorage = new JsonApplicationsManagerStorage(
-                getTempFilePath("am"));
+        BinarySnapshotCacheStorage snapshotCacheStorage = new BinarySnapshotCacheStorage(getTempFilePath("cache"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(addressBookStorage, applicationsManagerStorage, userPrefsStorage);
+        return new StorageManager(addressBookStorage, applicationsManagerStorage, journalStorage,
+                snapshotCacheStorage, userPrefsStorage, COMPACTION_THRESHOLD, compactionInterval);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -64,9 +92,274 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedAddressBook_skipsWrite() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveMutations_noJournal_savesDataAsWhole() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+
+        assertEquals(model.getAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+        assertTrue(Files.exists(getTempFilePath("journal")));
+    }
+
+    @Test
+    public void saveMutations_journalStarted_appendsToJournal() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+        String savedAddressBook = Files.readString(storageManager.getAddressBookFilePath());
+
+        model.deletePerson(BENSON);
+        model.addPerson(AMY);
+        saveMutations(model);
+        assertEquals(savedAddressBook, Files.readString(storageManager.getAddressBookFilePath()));
+
+        assertEquals(model, readModel());
+    }
+
+    @Test
+    public void saveMutations_journalFull_savesDataAsWhole() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+        for (Person person : List.of(BENSON, CARL, DANIEL, ELLE)) {
+            model.deletePerson(person);
+            saveMutations(model);
+        }
+
+        assertEquals(model.getAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(model, readModel());
+    }
+
+    @Test
+    public void saveMutations_journalDueForCompaction_savesDataAsWhole() throws Exception {
+        storageManager = createStorageManager(new JsonApplicationsManagerStorage(getTempFilePath("am")),
+                new JsonJournalStorage(getTempFilePath("journal")), Duration.ZERO);
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+        model.deletePerson(BENSON);
+        saveMutations(model);
+        assertFalse(model.getAddressBook().equals(new AddressBook(storageManager.readAddressBook().get())));
+
+        model.deletePerson(CARL);
+        saveMutations(model);
+        assertEquals(model.getAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveMutations_interruptedBeforeDataFilesWritten_previousDataKept() throws Exception {
+        FailingApplicationsManagerStorage applicationsManagerStorage =
+                new FailingApplicationsManagerStorage(getTempFilePath("am"));
+        storageManager = createStorageManager(applicationsManagerStorage,
+                new JsonJournalStorage(getTempFilePath("journal")), StorageManager.DEFAULT_COMPACTION_INTERVAL);
+        Model model = getTypicalModel();
+        model.deletePerson(BENSON);
+        saveMutations(model);
+        model.deletePerson(CARL);
+        saveMutations(model);
+        Model savedModel = new ModelManager(model.getAddressBook(), model.getApplicationsManager(), new UserPrefs());
+
+        // The address book is written before saving the applications fails.
+        applicationsManagerStorage.isFailing = true;
+        model.deletePerson(ALICE);
+        model.deletePerson(DANIEL);
+        model.deletePerson(ELLE);
+        assertThrows(IOException.class, () -> saveMutations(model));
+
+        setUp();
+        storageManager.completeInterruptedSave();
+        assertEquals(savedModel, readModel());
+        assertNoFilesEndingWith(StorageManager.PENDING_FILE_SUFFIX);
+    }
+
+    @Test
+    public void saveMutations_interruptedAfterDataFilesWritten_saveCompletedOnStart() throws Exception {
+        FailingJournalStorage journalStorage = new FailingJournalStorage(getTempFilePath("journal"));
+        storageManager = createStorageManager(new JsonApplicationsManagerStorage(getTempFilePath("am")),
+                journalStorage, StorageManager.DEFAULT_COMPACTION_INTERVAL);
+        Model model = getTypicalModel();
+        model.deletePerson(BENSON);
+        saveMutations(model);
+        model.deletePerson(CARL);
+        saveMutations(model);
+
+        // Both data files are written before starting the journal for them fails.
+        journalStorage.isFailing = true;
+        model.deletePerson(ALICE);
+        model.deletePerson(DANIEL);
+        model.deletePerson(ELLE);
+        assertThrows(IOException.class, () -> saveMutations(model));
+
+        setUp();
+        storageManager.completeInterruptedSave();
+        assertEquals(model, readModel());
+        assertNoFilesEndingWith(StorageManager.PENDING_FILE_SUFFIX);
+        assertNoFilesEndingWith(StorageManager.COMMIT_MARKER_SUFFIX);
+        assertNoFilesEndingWith(JsonJournalStorage.SET_ASIDE_FILE_SUFFIX);
+    }
+
+    @Test
+    public void replayJournal_dataFileChangedSinceJournalStarted_setsJournalAside() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+        model.deletePerson(BENSON);
+        saveMutations(model);
+
+        Path addressBookFilePath = storageManager.getAddressBookFilePath();
+        Files.writeString(addressBookFilePath,
+                Files.readString(addressBookFilePath).replace("johnd@example.com", "john@example.com"));
+
+        assertTrue(readModel().hasPerson(BENSON));
+        assertFalse(Files.exists(getTempFilePath("journal")));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(JsonJournalStorage.SET_ASIDE_FILE_SUFFIX))
+                    .count());
+        }
+    }
+
+    @Test
+    public void compactJournal_journaledMutations_savesDataAsWhole() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+        model.deletePerson(BENSON);
+        saveMutations(model);
+
+        storageManager.compactJournal(model.getAddressBook(), model.getApplicationsManager());
+        assertEquals(model.getAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void compactJournal_nothingSaved_doesNotSave() throws Exception {
+        Model model = getTypicalModel();
+        storageManager.compactJournal(model.getAddressBook(), model.getApplicationsManager());
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void readSnapshotCache_dataSavedAsWhole_returnsSavedData() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+
+        SnapshotCacheStorage.CachedData cachedData = storageManager.readSnapshotCache().get();
+        assertEquals(model.getAddressBook(), new AddressBook(cachedData.addressBook()));
+        assertEquals(model.getApplicationsManager(), new ApplicationsManager(cachedData.applicationsManager()));
+    }
+
+    @Test
+    public void readSnapshotCache_dataFileChanged_returnsEmpty() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+
+        Path addressBookFilePath = storageManager.getAddressBookFilePath();
+        Files.writeString(addressBookFilePath,
+                Files.readString(addressBookFilePath).replace("johnd@example.com", "john@example.com"));
+        assertTrue(storageManager.readSnapshotCache().isEmpty());
+    }
+
+    @Test
+    public void compactJournal_snapshotCacheMissing_savesSnapshotCache() throws Exception {
+        Model model = getTypicalModel();
+        model.deletePerson(ALICE);
+        saveMutations(model);
+        Files.delete(getTempFilePath("cache"));
+
+        // As after starting with the data files, and replaying the journal without changes.
+        assertTrue(storageManager.readSnapshotCache().isEmpty());
+        readModel();
+        storageManager.compactJournal(model.getAddressBook(), model.getApplicationsManager());
+
+        assertEquals(model.getAddressBook(),
+                new AddressBook(storageManager.readSnapshotCache().get().addressBook()));
+    }
+
+    /**
+     * Returns a model with the typical persons, jobs and applications.
+     */
+    private Model getTypicalModel() {
+        return new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(), new UserPrefs());
+    }
+
+    private void saveMutations(Model model) throws Exception {
+        storageManager.saveMutations(model.takeMutations(), model.getAddressBook(), model.getApplicationsManager());
+    }
+
+    /**
+     * Returns a model with the data in the data files and the journal.
+     */
+    private Model readModel() throws Exception {
+        ReadOnlyAddressBook addressBook = storageManager.readAddressBook().get();
+        Model model = new ModelManager(addressBook, storageManager.readApplicationsManager(addressBook).get(),
+                new UserPrefs());
+        storageManager.replayJournal(model);
+        return model;
+    }
+
+    private void assertNoFilesEndingWith(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(0, files.filter(file -> file.toString().endsWith(suffix)).count());
+        }
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    /**
+     * A {@code JsonApplicationsManagerStorage} that fails to save while {@code isFailing} is set.
+     */
+    private static class FailingApplicationsManagerStorage extends JsonApplicationsManagerStorage {
+        private boolean isFailing;
+
+        FailingApplicationsManagerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager, Path filePath)
+                throws IOException {
+            if (isFailing) {
+                throw new IOException("Could not save the applications.");
+            }
+            super.saveApplicationsManager(applicationsManager, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonJournalStorage} that fails to start a journal while {@code isFailing} is set.
+     */
+    private static class FailingJournalStorage extends JsonJournalStorage {
+        private boolean isFailing;
+
+        FailingJournalStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void startJournal(long snapshotId) throws IOException {
+            if (isFailing) {
+                throw new IOException("Could not start the journal.");
+            }
+            super.startJournal(snapshotId);
+        }
+    }
 }